@@ -0,0 +1,107 @@
+package com.comandulli.lib.view.benchmark;
+
+import com.comandulli.lib.view.core.ClickLock;
+import com.comandulli.lib.view.core.HoldTracker;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of the per event work of the click listeners and the hold gesture.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+@State(Scope.Thread)
+public class GestureBenchmark {
+
+    /**
+     * Lock of a locked click listener.
+     */
+    private final ClickLock lock = new ClickLock(true, 0);
+    /**
+     * Lock of a throttled click listener.
+     */
+    private final ClickLock throttle = new ClickLock(false, 300);
+    /**
+     * Hold of half a second, frames are fed by hand.
+     */
+    private final HoldTracker hold = new HoldTracker(500, new HoldTracker.OnHoldListener() {
+        @Override
+        public void onHoldStart() {
+        }
+
+        @Override
+        public void onHoldComplete(long latencyMillis) {
+            completed++;
+        }
+
+        @Override
+        public void onHoldCancel() {
+        }
+    }) {
+        @Override
+        protected long now() {
+            return now;
+        }
+
+        @Override
+        protected void requestFrame() {
+        }
+
+        @Override
+        protected void cancelFrame() {
+        }
+    };
+    /**
+     * Time of the events.
+     */
+    private long now;
+    /**
+     * Amount of completed holds.
+     */
+    private int completed;
+
+    /**
+     * An accepted click, released right away.
+     *
+     * @return if it has been released
+     */
+    @Benchmark
+    public boolean lockedClick() {
+        long word = lock.tryLock(now++);
+        return lock.release(word);
+    }
+
+    /**
+     * A click on a throttled listener, most of them are suppressed.
+     *
+     * @return the lock word
+     */
+    @Benchmark
+    public long throttledClick() {
+        now += 7;
+        return throttle.tryLock(now);
+    }
+
+    /**
+     * A whole hold, down, one frame per 16 milliseconds until it completes, up.
+     *
+     * @return amount of completed holds
+     */
+    @Benchmark
+    public int hold() {
+        now += 1000;
+        long down = now;
+        hold.down(down, 0);
+        long frame = down;
+        while (hold.frame(frame)) {
+            frame += 16;
+            hold.getProgress(frame, 100);
+        }
+        hold.up(frame + 10);
+        return completed;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.comandulli.lib.view.benchmark;
+
+import com.comandulli.lib.view.core.Mask;
+import com.comandulli.lib.view.core.SampleMasks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * Cost of a keystroke through a {@link Mask}, and of masking many values at once,
+ * comparing the regex style mask of the README with a single pass mask.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+@State(Scope.Benchmark)
+public class MaskBenchmark {
+
+    /**
+     * Amount of values masked by the bulk benchmarks.
+     */
+    private static final int BULK = 1000;
+    /**
+     * Voucher mask as written in the README.
+     */
+    private static final Mask REGEX_MASK = SampleMasks.REGEX_VOUCHER;
+    /**
+     * The same voucher mask in a single pass over the characters.
+     */
+    private static final Mask SINGLE_PASS_MASK = SampleMasks.SINGLE_PASS_VOUCHER;
+    /**
+     * Length of the typed value.
+     */
+    @Param({"8", "64"})
+    public int length;
+    /**
+     * Value being masked.
+     */
+    private String value;
+    /**
+     * Values masked by the bulk benchmarks.
+     */
+    private String[] values;
+
+    /**
+     * Generate the values, letters of both cases, numbers and separators.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String alphabet = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789- ";
+        values = new String[BULK];
+        for (int i = 0; i < BULK; i++) {
+            char[] chars = new char[length];
+            for (int j = 0; j < length; j++) {
+                chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            values[i] = new String(chars);
+        }
+        value = values[0];
+        if (!REGEX_MASK.mask(value).equals(SINGLE_PASS_MASK.mask(value))) {
+            throw new IllegalStateException("masks disagree on " + value);
+        }
+    }
+
+    /**
+     * A keystroke through the regex style mask.
+     *
+     * @return the masked value
+     */
+    @Benchmark
+    public String regexKeystroke() {
+        return REGEX_MASK.mask(value);
+    }
+
+    /**
+     * A keystroke through the single pass mask.
+     *
+     * @return the masked value
+     */
+    @Benchmark
+    public String singlePassKeystroke() {
+        return SINGLE_PASS_MASK.mask(value);
+    }
+
+    /**
+     * Many values through the regex style mask, such as populating a form.
+     *
+     * @param blackhole consumes the masked values
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void regexBulk(Blackhole blackhole) {
+        for (String v : values) {
+            blackhole.consume(REGEX_MASK.mask(v));
+        }
+    }
+
+    /**
+     * Many values through the single pass mask, such as populating a form.
+     *
+     * @param blackhole consumes the masked values
+     */
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public void singlePassBulk(Blackhole blackhole) {
+        for (String v : values) {
+            blackhole.consume(SINGLE_PASS_MASK.mask(v));
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.comandulli.lib.view.benchmark;
+
+import com.comandulli.lib.view.core.FakeScheduler;
+import com.comandulli.lib.view.core.ScrollEngine;
+import com.comandulli.lib.view.core.Timeline;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of a scroll tick and of planning an animation step, on a {@link FakeScheduler}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+@State(Scope.Thread)
+public class SchedulingBenchmark {
+
+    /**
+     * Rate of the scroll ticks and the animation steps.
+     */
+    private static final int TICK = 16;
+    /**
+     * Scheduler of the scroll engine.
+     */
+    private FakeScheduler scheduler;
+    /**
+     * Engine whose ticks are measured.
+     */
+    private ScrollEngine engine;
+    /**
+     * Timeline of the animation steps.
+     */
+    private final Timeline timeline = new Timeline();
+    /**
+     * Clock of the animation steps.
+     */
+    private long now;
+    /**
+     * Offset applied by the scroll engine.
+     */
+    private int offset;
+
+    /**
+     * Start the scroll, past its initial delay.
+     */
+    @Setup
+    public void setUp() {
+        scheduler = new FakeScheduler(0);
+        engine = new ScrollEngine(scheduler, new ScrollEngine.Target() {
+            @Override
+            public int getOverflow() {
+                return 4000;
+            }
+
+            @Override
+            public void scrollTo(int offset) {
+                SchedulingBenchmark.this.offset = offset;
+            }
+        });
+        engine.setTick(TICK);
+        engine.setScrollSpeedPixelsPerSecond(120);
+        engine.start();
+        scheduler.advanceTo(engine.getTimeToStart());
+        timeline.start(0);
+    }
+
+    /**
+     * One scroll tick, including the reset and start delays when the end is reached.
+     *
+     * @return the offset applied
+     */
+    @Benchmark
+    public int scrollTick() {
+        scheduler.runNext(scheduler.getNextTime());
+        return offset;
+    }
+
+    /**
+     * Measure and plan one animation step, running a little late.
+     *
+     * @return the deadline of the next step
+     */
+    @Benchmark
+    public long animationStep() {
+        now += TICK + 1;
+        timeline.measure(now);
+        return timeline.advance((long) TICK * timeline.periods(TICK));
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.comandulli.lib.view.benchmark;
+
+import com.comandulli.lib.view.core.ValidationState;
+import com.comandulli.lib.view.core.Validator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+/**
+ * Cost of a validation chain on a {@link ValidationState}, and of the reset and invalidate cycle
+ * an input goes through on every keystroke once it has an error.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    /**
+     * Format of a masked voucher.
+     */
+    private static final Pattern VOUCHER = Pattern.compile("[A-Z0-9]{3}-[A-Z0-9]+");
+    /**
+     * Validators of a voucher, from the cheapest to the most expensive.
+     */
+    private static final Validator[] CHAIN = {
+            new Validator() {
+                @Override
+                public boolean validate(String value) {
+                    return !value.isEmpty();
+                }
+            },
+            new Validator() {
+                @Override
+                public boolean validate(String value) {
+                    return value.length() >= 5 && value.length() <= 32;
+                }
+            },
+            new Validator() {
+                @Override
+                public boolean validate(String value) {
+                    return VOUCHER.matcher(value).matches();
+                }
+            }
+    };
+    /**
+     * State being validated.
+     */
+    private final ValidationState state = new ValidationState();
+    /**
+     * A value passing the whole chain.
+     */
+    private final String valid = "ABC-12345XYZ";
+    /**
+     * A value failing the last validator.
+     */
+    private final String invalid = "ABC_12345XYZ";
+
+    /**
+     * Run the chain, stopping at the first failure.
+     *
+     * @param value the value
+     * @return if it is valid
+     */
+    private boolean validate(String value) {
+        state.reset();
+        for (int i = 0; i < CHAIN.length; i++) {
+            if (!state.validate(CHAIN[i], value, i + 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A value passing the whole chain.
+     *
+     * @return if it is valid
+     */
+    @Benchmark
+    public boolean validChain() {
+        return validate(valid);
+    }
+
+    /**
+     * A value failing the last validator.
+     *
+     * @return if it is valid
+     */
+    @Benchmark
+    public boolean invalidChain() {
+        return validate(invalid);
+    }
+
+    /**
+     * Invalidate and reset, as an input with an error does on the next keystroke.
+     *
+     * @return if it had an error
+     */
+    @Benchmark
+    public boolean resetInvalidateCycle() {
+        state.invalidate(1);
+        return state.reset();
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.comandulli.lib.view.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A click lock, accepting a single click at a time.
+ * While it is locked no click is accepted, and it may also throttle its clicks,
+ * a click that happens within the throttle window of the last accepted click is suppressed.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ClickLock {
+
+    /**
+     * Returned by {@link #tryLock(long)} when the click has been suppressed.
+     */
+    public static final long SUPPRESSED = -1;
+    /**
+     * Lock word, the lowest bit tells if it is locked,
+     * the remaining bits count the locks so a stale owner can not release a newer lock.
+     */
+    private final AtomicLong lock = new AtomicLong();
+    /**
+     * Number of clicks suppressed by this lock.
+     */
+    private final AtomicLong suppressedClicks = new AtomicLong();
+    /**
+     * Time of the last accepted click.
+     */
+    private volatile long lastClickTime = Long.MIN_VALUE;
+    /**
+     * Minimum time between two accepted clicks, zero to not throttle.
+     */
+    private volatile long throttleWindow;
+    /**
+     * If an accepted click keeps the lock locked until it is released.
+     */
+    private final boolean locking;
+
+    /**
+     * Instantiate a lock.
+     *
+     * @param locking        if an accepted click keeps the lock locked until it is released
+     * @param throttleWindow minimum time between two accepted clicks, zero to not throttle
+     */
+    public ClickLock(boolean locking, long throttleWindow) {
+        this.locking = locking;
+        this.throttleWindow = throttleWindow;
+    }
+
+    /**
+     * Try to accept a click.
+     *
+     * @param eventTime time of the click
+     * @return the lock word to be released, or {@link #SUPPRESSED}
+     */
+    public long tryLock(long eventTime) {
+        long window = throttleWindow;
+        if (window > 0 && lastClickTime != Long.MIN_VALUE && eventTime - lastClickTime < window) {
+            return suppress();
+        }
+        long word = lock.get();
+        if ((word & 1) != 0) {
+            return suppress();
+        }
+        if (locking) {
+            if (!lock.compareAndSet(word, word + 1)) {
+                return suppress();
+            }
+            word++;
+        }
+        lastClickTime = eventTime;
+        return word;
+    }
+
+    /**
+     * Release a lock, only if it is still the one acquired with the given word.
+     * A lock that is not locking holds nothing, every accepted word is released,
+     * the caller releases each of its words once.
+     * Safe to be called from any thread.
+     *
+     * @param lockedWord word returned by {@link #tryLock(long)}
+     * @return if the lock has been released by this call
+     */
+    public boolean release(long lockedWord) {
+        if (!locking) {
+            return lockedWord != SUPPRESSED;
+        }
+        return (lockedWord & 1) != 0 && lock.compareAndSet(lockedWord, lockedWord + 1);
+    }
+
+    /**
+     * Unlock whoever holds it.
+     * Safe to be called from any thread.
+     */
+    public void unlock() {
+        long word = lock.get();
+        while ((word & 1) != 0 && !lock.compareAndSet(word, word + 1)) {
+            word = lock.get();
+        }
+    }
+
+    /**
+     * If this lock is locked.
+     *
+     * @return if it is locked
+     */
+    public boolean isLocked() {
+        return (lock.get() & 1) != 0;
+    }
+
+    /**
+     * Number of clicks suppressed by this lock, either locked or throttled.
+     *
+     * @return the count
+     */
+    public long getSuppressedClicks() {
+        return suppressedClicks.get();
+    }
+
+    /**
+     * Get the minimum time between two accepted clicks.
+     *
+     * @return the window in milliseconds
+     */
+    public long getThrottleWindow() {
+        return throttleWindow;
+    }
+
+    /**
+     * Set the minimum time between two accepted clicks.
+     *
+     * @param throttleWindow the window in milliseconds, zero to not throttle
+     */
+    public void setThrottleWindow(long throttleWindow) {
+        this.throttleWindow = throttleWindow;
+    }
+
+    /**
+     * A click has been suppressed, override to report it.
+     */
+    protected void onSuppressed() {
+        // stub
+    }
+
+    /**
+     * Count a suppressed click.
+     *
+     * @return {@link #SUPPRESSED}
+     */
+    private long suppress() {
+        suppressedClicks.incrementAndGet();
+        onSuppressed();
+        return SUPPRESSED;
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.comandulli.lib.view.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram with power of two buckets.
+ * <p>
+ * Bucket zero counts values up to zero, bucket {@code i} counts values
+ * from {@code 2^(i-1)} up to {@code 2^i - 1}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class Histogram {
+
+    /**
+     * Amount of buckets, enough for any positive long.
+     */
+    public static final int BUCKETS = 64;
+    /**
+     * Counts of the buckets.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    /**
+     * Sum of the recorded values.
+     */
+    private final StripedCounter sum = new StripedCounter();
+
+    /**
+     * Record a value.
+     *
+     * @param value the value
+     */
+    public void record(long value) {
+        buckets.incrementAndGet(bucketOf(value));
+        sum.add(value);
+    }
+
+    /**
+     * Amount of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Sum of the recorded values.
+     *
+     * @return the sum
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Amount of values recorded in a bucket.
+     *
+     * @param bucket the bucket
+     * @return the count
+     */
+    public long getBucketCount(int bucket) {
+        return buckets.get(bucket);
+    }
+
+    /**
+     * Upper bound of the bucket holding the given quantile.
+     *
+     * @param quantile the quantile, from zero to one
+     * @return the upper bound, zero when nothing has been recorded
+     */
+    public long getQuantile(double quantile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return upperBoundOf(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Reset this histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        sum.reset();
+    }
+
+    /**
+     * Bucket of a value.
+     *
+     * @param value the value
+     * @return the bucket
+     */
+    public static int bucketOf(long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Largest value counted by a bucket.
+     *
+     * @param bucket the bucket
+     * @return the upper bound
+     */
+    public static long upperBoundOf(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        if (bucket >= BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << bucket) - 1;
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Hold gesture state machine, a pointer held down long enough completes the hold.
+ * <p>
+ * Measures how long a pointer is held down from the times of the touch events,
+ * while holding, completion is checked against the frame times fed to {@link #frame(long)}.
+ * Subclasses provide the clock and request the frames.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public abstract class HoldTracker {
+
+    /**
+     * No pointer is down.
+     */
+    private static final int STATE_IDLE = 0;
+    /**
+     * A pointer is down and the hold has not completed yet.
+     */
+    private static final int STATE_HOLDING = 1;
+    /**
+     * The hold has completed, waiting for the pointer to go up.
+     */
+    private static final int STATE_COMPLETED = 2;
+    /**
+     * Listener of the gesture.
+     */
+    private final OnHoldListener listener;
+    /**
+     * Time the pointer has to be held down.
+     */
+    private long holdDuration;
+    /**
+     * Current state of the gesture.
+     */
+    private int state = STATE_IDLE;
+    /**
+     * Id of the pointer being tracked.
+     */
+    private int pointerId;
+    /**
+     * Time at which the pointer went down.
+     */
+    private long downTime;
+    /**
+     * Time at which the hold completes.
+     */
+    private long deadline;
+    /**
+     * Time between the deadline and the completion callback of the last hold.
+     */
+    private long lastLatency;
+
+    /**
+     * Instantiate a hold tracker.
+     *
+     * @param holdDuration time the pointer has to be held down
+     * @param listener     listener of the gesture
+     */
+    public HoldTracker(long holdDuration, OnHoldListener listener) {
+        this.holdDuration = holdDuration;
+        this.listener = listener;
+    }
+
+    /**
+     * The first pointer went down, a hold in progress is cancelled first.
+     *
+     * @param downTime  time the pointer went down
+     * @param pointerId pointer to be tracked
+     */
+    public void down(long downTime, int pointerId) {
+        if (state == STATE_HOLDING) {
+            cancel();
+        }
+        this.state = STATE_HOLDING;
+        this.downTime = downTime;
+        this.deadline = downTime + holdDuration;
+        this.pointerId = pointerId;
+        listener.onHoldStart();
+        requestFrame();
+    }
+
+    /**
+     * A secondary pointer went up, only the tracked pointer releases the hold.
+     *
+     * @param pointerId pointer that went up
+     * @param eventTime time the pointer went up
+     */
+    public void pointerUp(int pointerId, long eventTime) {
+        if (pointerId == this.pointerId) {
+            up(eventTime);
+        }
+    }
+
+    /**
+     * The tracked pointer went up, a release past the deadline still completes the hold.
+     *
+     * @param eventTime time the pointer went up
+     */
+    public void up(long eventTime) {
+        if (state == STATE_HOLDING && eventTime >= deadline) {
+            complete();
+        }
+        cancel();
+    }
+
+    /**
+     * Cancel the current hold, if any.
+     */
+    public void cancel() {
+        int previous = state;
+        state = STATE_IDLE;
+        cancelFrame();
+        if (previous == STATE_HOLDING) {
+            listener.onHoldCancel();
+        }
+    }
+
+    /**
+     * Check the deadline against a frame time.
+     *
+     * @param frameTimeMillis time of the frame
+     * @return if the hold is still pending and needs another frame
+     */
+    public boolean frame(long frameTimeMillis) {
+        if (state != STATE_HOLDING) {
+            return false;
+        }
+        if (frameTimeMillis >= deadline) {
+            complete();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Progress of the current hold at a given time.
+     *
+     * @param timeMillis the time
+     * @param max        progress at the end of the hold
+     * @return the progress, from zero to max
+     */
+    public int getProgress(long timeMillis, int max) {
+        if (holdDuration <= 0) {
+            return max;
+        }
+        long elapsed = timeMillis - downTime;
+        return (int) Math.min(max, Math.max(0, elapsed * max / holdDuration));
+    }
+
+    /**
+     * If a pointer is currently being held.
+     *
+     * @return if it is holding
+     */
+    public boolean isHolding() {
+        return state == STATE_HOLDING;
+    }
+
+    /**
+     * Time at which the current pointer went down.
+     *
+     * @return the down time
+     */
+    public long getDownTime() {
+        return downTime;
+    }
+
+    /**
+     * Time between the deadline and the completion callback of the last hold.
+     *
+     * @return the latency in milliseconds
+     */
+    public long getLastLatency() {
+        return lastLatency;
+    }
+
+    /**
+     * Get the time the pointer has to be held down.
+     *
+     * @return the duration in milliseconds
+     */
+    public long getHoldDuration() {
+        return holdDuration;
+    }
+
+    /**
+     * Set the time the pointer has to be held down, applied from the next hold on.
+     *
+     * @param holdDuration the duration in milliseconds
+     */
+    public void setHoldDuration(long holdDuration) {
+        this.holdDuration = holdDuration;
+    }
+
+    /**
+     * Current time, in the time base of the touch events.
+     *
+     * @return the time in milliseconds
+     */
+    protected abstract long now();
+
+    /**
+     * Request a call to {@link #frame(long)} on the next frame.
+     */
+    protected abstract void requestFrame();
+
+    /**
+     * Cancel the requested frame, if any.
+     */
+    protected abstract void cancelFrame();
+
+    /**
+     * The hold has completed, override to report its latency.
+     *
+     * @param latencyMillis time between the deadline and the completion
+     */
+    protected void onComplete(long latencyMillis) {
+        // stub
+    }
+
+    /**
+     * The hold has completed.
+     */
+    private void complete() {
+        state = STATE_COMPLETED;
+        cancelFrame();
+        lastLatency = now() - deadline;
+        onComplete(lastLatency);
+        listener.onHoldComplete(lastLatency);
+    }
+
+    /**
+     * Listener of a {@link HoldTracker}.
+     */
+    public interface OnHoldListener {
+
+        /**
+         * The pointer went down.
+         */
+        void onHoldStart();
+
+        /**
+         * The pointer has been held for the whole duration.
+         *
+         * @param latencyMillis time between the deadline and this callback
+         */
+        void onHoldComplete(long latencyMillis);
+
+        /**
+         * The pointer went up, or the gesture was cancelled, before the duration.
+         */
+        void onHoldCancel();
+
+    }
+
+}
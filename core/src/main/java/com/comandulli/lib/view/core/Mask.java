@@ -0,0 +1,19 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * A text mask, rewriting the value of an input as it is typed, such as adding separators.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public interface Mask {
+
+    /**
+     * Modify the value to apply the mask.
+     *
+     * @param value in input
+     * @return the masked value.
+     */
+    String mask(String value);
+
+}
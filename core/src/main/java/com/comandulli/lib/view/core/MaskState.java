@@ -0,0 +1,68 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Mask state of an input, the last value it has masked,
+ * so the change caused by setting that value is not masked again.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class MaskState {
+
+    /**
+     * The mask.
+     */
+    private final Mask mask;
+    /**
+     * Last masked value.
+     */
+    private String watched = "";
+
+    /**
+     * Instantiate a state.
+     *
+     * @param mask the mask
+     */
+    public MaskState(Mask mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * If a text is the last masked value, compared in place so the check does not allocate.
+     *
+     * @param text the text
+     * @return if it is the last masked value
+     */
+    public boolean isWatched(CharSequence text) {
+        if (text == null || text.length() != watched.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) != watched.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Mask a text, keeping the result as the last masked value.
+     *
+     * @param text the text
+     * @return the masked value
+     */
+    public String mask(CharSequence text) {
+        watched = mask.mask(text.toString());
+        return watched;
+    }
+
+    /**
+     * Set the last masked value, such as a value masked elsewhere.
+     *
+     * @param watched the value
+     */
+    public void setWatched(String watched) {
+        this.watched = watched;
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Receives the metrics reported by the library, counters and histograms by id.
+ * Implementations must be safe to be called from any thread.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public interface Metrics {
+
+    /**
+     * Metrics that discard everything.
+     */
+    Metrics NOOP = new Metrics() {
+        @Override
+        public void count(int counter, long delta) {
+        }
+
+        @Override
+        public void record(int histogram, long value) {
+        }
+    };
+
+    /**
+     * Add to a counter.
+     *
+     * @param counter id of the counter
+     * @param delta   amount to be added
+     */
+    void count(int counter, long delta);
+
+    /**
+     * Record a value in a histogram.
+     *
+     * @param histogram id of the histogram
+     * @param value     the value
+     */
+    void record(int histogram, long value);
+
+}
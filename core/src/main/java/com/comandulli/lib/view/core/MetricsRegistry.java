@@ -0,0 +1,91 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Lock free {@link Metrics} keeping a {@link StripedCounter} and a {@link Histogram} per id.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class MetricsRegistry implements Metrics {
+
+    /**
+     * Counters, by id.
+     */
+    private final StripedCounter[] counters;
+    /**
+     * Histograms, by id.
+     */
+    private final Histogram[] histograms;
+
+    /**
+     * Instantiate a registry.
+     *
+     * @param counterCount   amount of counters
+     * @param histogramCount amount of histograms
+     */
+    public MetricsRegistry(int counterCount, int histogramCount) {
+        this.counters = new StripedCounter[counterCount];
+        for (int i = 0; i < counterCount; i++) {
+            counters[i] = new StripedCounter();
+        }
+        this.histograms = new Histogram[histogramCount];
+        for (int i = 0; i < histogramCount; i++) {
+            histograms[i] = new Histogram();
+        }
+    }
+
+    /**
+     * Add to a counter.
+     *
+     * @param counter id of the counter
+     * @param delta   amount to be added
+     */
+    @Override
+    public void count(int counter, long delta) {
+        counters[counter].add(delta);
+    }
+
+    /**
+     * Record a value in a histogram.
+     *
+     * @param histogram id of the histogram
+     * @param value     the value
+     */
+    @Override
+    public void record(int histogram, long value) {
+        histograms[histogram].record(value);
+    }
+
+    /**
+     * Get a counter.
+     *
+     * @param counter id of the counter
+     * @return the counter
+     */
+    public StripedCounter getCounter(int counter) {
+        return counters[counter];
+    }
+
+    /**
+     * Get a histogram.
+     *
+     * @param histogram id of the histogram
+     * @return the histogram
+     */
+    public Histogram getHistogram(int histogram) {
+        return histograms[histogram];
+    }
+
+    /**
+     * Reset every counter and histogram.
+     */
+    public void reset() {
+        for (StripedCounter counter : counters) {
+            counter.reset();
+        }
+        for (Histogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+
+}
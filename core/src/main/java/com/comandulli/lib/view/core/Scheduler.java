@@ -0,0 +1,57 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Schedules delayed work of owners on a single thread,
+ * the work of an owner is cancelled, paused and resumed at once.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public interface Scheduler {
+
+    /**
+     * Current time of this scheduler's clock.
+     *
+     * @return the time in milliseconds
+     */
+    long now();
+
+    /**
+     * Run a task at an absolute time of this scheduler's clock.
+     *
+     * @param owner    owner of the task
+     * @param runnable the task
+     * @param time     the time
+     */
+    void postAtTime(Object owner, Runnable runnable, long time);
+
+    /**
+     * Cancel every task of an owner.
+     *
+     * @param owner the owner
+     */
+    void cancel(Object owner);
+
+    /**
+     * Pause every task of an owner, keeping the time they have left.
+     *
+     * @param owner the owner
+     */
+    void pause(Object owner);
+
+    /**
+     * Resume the paused tasks of an owner.
+     *
+     * @param owner the owner
+     */
+    void resume(Object owner);
+
+    /**
+     * If the tasks of an owner are paused.
+     *
+     * @param owner the owner
+     * @return if it is paused
+     */
+    boolean isPaused(Object owner);
+
+}
@@ -0,0 +1,350 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Auto scroll engine along a single axis.
+ * <p>
+ * After a delay the target is scrolled until its end, then either jumps back to
+ * the start or, in ping-pong, scrolls back. Steps are posted to a {@link Scheduler}
+ * on the absolute deadlines of a {@link Timeline}, ticks missed by a busy thread are
+ * applied at once so the scroll keeps its pace. A step does not allocate.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ScrollEngine {
+
+    /**
+     * Default time it takes to start the scrolling.
+     */
+    public static final int TIME_TO_START = 1500;
+    /**
+     * Default time it takes for the scrolling to reset.
+     */
+    public static final int TIME_TO_RESET = 1500;
+    /**
+     * Default rate at which the scroll speed is applied.
+     */
+    public static final int TICK = 34;
+    /**
+     * Default scrolling speed.
+     */
+    public static final int SCROLL_SPEED = 1;
+    /**
+     * What is being scrolled.
+     */
+    private final Target target;
+    /**
+     * Absolute deadlines of the scrolling steps.
+     */
+    private final Timeline timeline = new Timeline();
+    /**
+     * Scheduler where the scrolling steps are posted.
+     */
+    private Scheduler scheduler;
+    /**
+     * Current scroll applied.
+     */
+    private float position;
+    /**
+     * Direction of the scroll, one forward and minus one backward.
+     */
+    private int direction = 1;
+    /**
+     * If the scroll goes back and forth instead of jumping back to the start.
+     */
+    private boolean pingPong;
+    /**
+     * Scrolling speed in pixels per second, zero to apply {@link #scrollSpeed} once per tick.
+     */
+    private float pixelsPerSecond;
+    /**
+     * Time it takes to start the scrolling.
+     */
+    private int timeToStart = TIME_TO_START;
+    /**
+     * Time it takes for the scrolling to reset.
+     */
+    private int timeToReset = TIME_TO_RESET;
+    /**
+     * Rate at which the scroll speed is applied.
+     */
+    private int tick = TICK;
+    /**
+     * Scrolling speed.
+     */
+    private int scrollSpeed = SCROLL_SPEED;
+    /**
+     * Applies the scroll speed, once per tick.
+     */
+    private final Runnable scrollStep = new Runnable() {
+        @Override
+        public void run() {
+            scroll();
+        }
+    };
+    /**
+     * Moves the target back to the start once the end has been reached.
+     */
+    private final Runnable resetStep = new Runnable() {
+        @Override
+        public void run() {
+            timeline.measure(scheduler.now());
+            position = 0;
+            apply();
+            scheduler.postAtTime(ScrollEngine.this, scrollStep, timeline.advance(timeToStart));
+        }
+    };
+
+    /**
+     * Instantiate an engine.
+     *
+     * @param scheduler scheduler where the scrolling steps are posted
+     * @param target    what is being scrolled
+     */
+    public ScrollEngine(Scheduler scheduler, Target target) {
+        this.scheduler = scheduler;
+        this.target = target;
+    }
+
+    /**
+     * Start scrolling from the beginning.
+     */
+    public void start() {
+        stop();
+        timeline.start(scheduler.now());
+        scheduler.postAtTime(this, scrollStep, timeline.advance(timeToStart));
+    }
+
+    /**
+     * Stop scrolling and move the target back to the start.
+     */
+    public void stop() {
+        scheduler.cancel(this);
+        position = 0;
+        direction = 1;
+        target.scrollTo(0);
+    }
+
+    /**
+     * Apply the scroll speed and plan the next step from the current deadline,
+     * ticks missed by a busy thread are applied at once so the scroll keeps its pace.
+     */
+    protected void scroll() {
+        timeline.measure(scheduler.now());
+        int ticks = timeline.periods(tick);
+        int overflow = target.getOverflow();
+        if (overflow <= 0) {
+            // nothing to scroll, check again later
+            scheduler.postAtTime(this, resetStep, timeline.advance(timeToReset));
+            return;
+        }
+        position += direction * stepDistance() * ticks;
+        if (position >= overflow) {
+            position = overflow;
+            apply();
+            if (pingPong) {
+                direction = -1;
+                scheduler.postAtTime(this, scrollStep, timeline.advance(timeToReset));
+            } else {
+                scheduler.postAtTime(this, resetStep, timeline.advance(timeToReset));
+            }
+        } else if (position <= 0) {
+            position = 0;
+            apply();
+            direction = 1;
+            scheduler.postAtTime(this, scrollStep, timeline.advance(timeToStart));
+        } else {
+            apply();
+            scheduler.postAtTime(this, scrollStep, timeline.advance((long) tick * ticks));
+        }
+    }
+
+    /**
+     * Distance scrolled in a tick.
+     *
+     * @return the distance in pixels
+     */
+    private float stepDistance() {
+        if (pixelsPerSecond > 0) {
+            return pixelsPerSecond * tick / 1000f;
+        }
+        return scrollSpeed;
+    }
+
+    /**
+     * Scroll the target to the current position.
+     */
+    private void apply() {
+        target.scrollTo(Math.round(position));
+    }
+
+    /**
+     * Current scroll applied.
+     *
+     * @return the offset in pixels
+     */
+    public int getPosition() {
+        return Math.round(position);
+    }
+
+    /**
+     * Set the scheduler where the scrolling steps are posted, a running scroll is stopped.
+     *
+     * @param scheduler the scheduler
+     */
+    public void setScheduler(Scheduler scheduler) {
+        stop();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * If the scroll goes back and forth.
+     *
+     * @return if it is ping-pong
+     */
+    public boolean isPingPong() {
+        return pingPong;
+    }
+
+    /**
+     * Set if the scroll goes back and forth instead of jumping back to the start.
+     *
+     * @param pingPong if it is ping-pong
+     */
+    public void setPingPong(boolean pingPong) {
+        this.pingPong = pingPong;
+    }
+
+    /**
+     * Difference between the measured and the planned time of the last scrolling step.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getScheduleDrift() {
+        return timeline.getDrift();
+    }
+
+    /**
+     * Largest difference between the measured and the planned time of a scrolling step.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getMaxScheduleDrift() {
+        return timeline.getMaxDrift();
+    }
+
+    /**
+     * Get the scrolling speed.
+     *
+     * @return the speed
+     */
+    public int getScrollSpeed() {
+        return scrollSpeed;
+    }
+
+    /**
+     * Set the scrolling speed.
+     *
+     * @param scrollSpeed the speed
+     */
+    public void setScrollSpeed(int scrollSpeed) {
+        this.scrollSpeed = scrollSpeed;
+    }
+
+    /**
+     * Get the scrolling speed in pixels per second.
+     *
+     * @return the speed
+     */
+    public float getScrollSpeedPixelsPerSecond() {
+        if (pixelsPerSecond > 0) {
+            return pixelsPerSecond;
+        }
+        return tick > 0 ? scrollSpeed * 1000f / tick : 0;
+    }
+
+    /**
+     * Set the scrolling speed in pixels per second, independent of the tick rate.
+     *
+     * @param pixelsPerSecond the speed, zero to go back to {@link #setScrollSpeed(int)} per tick
+     */
+    public void setScrollSpeedPixelsPerSecond(float pixelsPerSecond) {
+        this.pixelsPerSecond = pixelsPerSecond;
+    }
+
+    /**
+     * Get the rate at which the scroll speed is applied.
+     *
+     * @return tick rate
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Set the rate at which the scroll speed is applied.
+     *
+     * @param tick tick rate
+     */
+    public void setTick(int tick) {
+        this.tick = tick;
+    }
+
+    /**
+     * Get the time it takes for the scrolling to reset.
+     *
+     * @return the time
+     */
+    public int getTimeToReset() {
+        return timeToReset;
+    }
+
+    /**
+     * Set the time it takes for the scrolling to reset.
+     *
+     * @param timeToReset the time
+     */
+    public void setTimeToReset(int timeToReset) {
+        this.timeToReset = timeToReset;
+    }
+
+    /**
+     * Get the time it takes to start the scrolling.
+     *
+     * @return the time
+     */
+    public int getTimeToStart() {
+        return timeToStart;
+    }
+
+    /**
+     * Set the time it takes to start the scrolling.
+     *
+     * @param timeToStart the time
+     */
+    public void setTimeToStart(int timeToStart) {
+        this.timeToStart = timeToStart;
+    }
+
+    /**
+     * What a {@link ScrollEngine} scrolls.
+     */
+    public interface Target {
+
+        /**
+         * Amount of pixels the content exceeds the target along the scroll axis.
+         *
+         * @return the overflow, zero or less when all of it is visible
+         */
+        int getOverflow();
+
+        /**
+         * Scroll the target along the scroll axis.
+         *
+         * @param offset the offset in pixels
+         */
+        void scrollTo(int offset);
+
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.comandulli.lib.view.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sequence of timed steps, run one after the other.
+ * <p>
+ * Each step starts, lasts its duration and ends, then the next one starts. A step may wait
+ * for a {@link #trigger()} before starting. Steps are posted to a {@link Scheduler} on the
+ * absolute deadlines of a {@link Timeline}, so delays do not accumulate along the sequence,
+ * and the whole sequence may be paused and resumed.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class StepSequence {
+
+    /**
+     * Scheduler where the steps are posted.
+     */
+    private final Scheduler scheduler;
+    /**
+     * Steps of the sequence, in order.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+    /**
+     * Absolute deadlines of the steps.
+     */
+    private final Timeline timeline = new Timeline();
+    /**
+     * Index of the current step.
+     */
+    private int current;
+    /**
+     * If {@link #trigger()} has been called.
+     */
+    private boolean triggered;
+    /**
+     * If the current step is waiting for a {@link #trigger()} call.
+     */
+    private boolean waitingForTrigger;
+    /**
+     * Time at which the sequence was paused.
+     */
+    private long pausedAt;
+    /**
+     * Runs the first step of the sequence.
+     */
+    private final Runnable first = new Runnable() {
+        @Override
+        public void run() {
+            onDrift(timeline.measure(scheduler.now()));
+            begin(current);
+        }
+    };
+
+    /**
+     * Instantiate a sequence.
+     *
+     * @param scheduler scheduler where the steps are posted
+     */
+    public StepSequence(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Add a step at the end of the sequence.
+     *
+     * @param step           what the step does, null to only wait its duration
+     * @param duration       duration of the step
+     * @param waitForTrigger if the step waits for a {@link #trigger()} call before starting
+     */
+    public void add(Step step, long duration, boolean waitForTrigger) {
+        entries.add(new Entry(step, duration, waitForTrigger));
+    }
+
+    /**
+     * Start the sequence from its first step, after a delay.
+     * A previous run, paused or not, is cancelled.
+     *
+     * @param delay time before the first step
+     */
+    public void start(long delay) {
+        cancel();
+        current = 0;
+        timeline.start(scheduler.now());
+        scheduler.postAtTime(this, first, timeline.advance(delay));
+    }
+
+    /**
+     * Cancel the sequence, nothing else runs until {@link #start(long)} is called again.
+     */
+    public void cancel() {
+        scheduler.cancel(this);
+        scheduler.resume(this);
+        waitingForTrigger = false;
+    }
+
+    /**
+     * Pause the sequence, the current step keeps the time it had left until {@link #resume()}.
+     */
+    public void pause() {
+        if (!scheduler.isPaused(this)) {
+            pausedAt = scheduler.now();
+            scheduler.pause(this);
+        }
+    }
+
+    /**
+     * Resume a paused sequence, the rest of it is shifted by the time it was paused.
+     */
+    public void resume() {
+        if (scheduler.isPaused(this)) {
+            timeline.shift(scheduler.now() - pausedAt);
+            scheduler.resume(this);
+        }
+    }
+
+    /**
+     * If the sequence is paused.
+     *
+     * @return if it is paused
+     */
+    public boolean isPaused() {
+        return scheduler.isPaused(this);
+    }
+
+    /**
+     * Let the steps waiting for a trigger start, the current one included.
+     */
+    public void trigger() {
+        triggered = true;
+        if (waitingForTrigger) {
+            waitingForTrigger = false;
+            // the sequence was on hold, the timeline restarts from now
+            long now = scheduler.now();
+            timeline.rebase(now);
+            if (scheduler.isPaused(this)) {
+                // the time paused before the trigger is already dropped by the rebase
+                pausedAt = now;
+            }
+            begin(current);
+        }
+    }
+
+    /**
+     * If the current step is waiting for a {@link #trigger()} call.
+     *
+     * @return if it is waiting
+     */
+    public boolean isWaitingForTrigger() {
+        return waitingForTrigger;
+    }
+
+    /**
+     * Index of the current step.
+     *
+     * @return the index
+     */
+    public int getCurrentStep() {
+        return current;
+    }
+
+    /**
+     * Amount of steps of the sequence.
+     *
+     * @return the amount
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Difference between the measured and the planned time of the last step.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getDrift() {
+        return timeline.getDrift();
+    }
+
+    /**
+     * Largest difference between the measured and the planned time of a step since {@link #start(long)}.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getMaxDrift() {
+        return timeline.getMaxDrift();
+    }
+
+    /**
+     * A step has run, measured against its deadline, override to report it.
+     *
+     * @param drift the drift in milliseconds, positive when late
+     */
+    protected void onDrift(long drift) {
+        // stub
+    }
+
+    /**
+     * A step has lasted its duration, called before it ends, override to report it.
+     *
+     * @param index index of the step
+     */
+    protected void onStepDone(int index) {
+        // stub
+    }
+
+    /**
+     * The last step has lasted its duration, called before it ends, override to report it.
+     */
+    protected void onFinish() {
+        // stub
+    }
+
+    /**
+     * Start a step, unless it waits for a trigger that has not been called.
+     *
+     * @param index index of the step
+     */
+    private void begin(int index) {
+        Entry entry = entries.get(index);
+        if (entry.waitForTrigger && !triggered) {
+            waitingForTrigger = true;
+            return;
+        }
+        if (entry.step != null) {
+            entry.step.start();
+        }
+        scheduler.postAtTime(this, entry, timeline.advance(entry.duration));
+    }
+
+    /**
+     * End the current step and move on to the next one.
+     *
+     * @param entry the current step
+     */
+    private void complete(Entry entry) {
+        onDrift(timeline.measure(scheduler.now()));
+        onStepDone(current);
+        current++;
+        boolean finished = current == entries.size();
+        if (finished) {
+            onFinish();
+        }
+        if (entry.step != null) {
+            entry.step.end();
+        }
+        if (!finished) {
+            begin(current);
+        }
+    }
+
+    /**
+     * What a step of a {@link StepSequence} does.
+     */
+    public interface Step {
+
+        /**
+         * The step starts.
+         */
+        void start();
+
+        /**
+         * The step has lasted its duration.
+         */
+        void end();
+
+    }
+
+    /**
+     * A step of the sequence, posted as its own completion.
+     */
+    private final class Entry implements Runnable {
+
+        /**
+         * What the step does, null to only wait.
+         */
+        final Step step;
+        /**
+         * Duration of the step.
+         */
+        final long duration;
+        /**
+         * If the step waits for a trigger before starting.
+         */
+        final boolean waitForTrigger;
+
+        /**
+         * Instantiate a step.
+         *
+         * @param step           what the step does
+         * @param duration       duration of the step
+         * @param waitForTrigger if the step waits for a trigger
+         */
+        Entry(Step step, long duration, boolean waitForTrigger) {
+            this.step = step;
+            this.duration = duration;
+            this.waitForTrigger = waitForTrigger;
+        }
+
+        /**
+         * Implementation of the completion.
+         */
+        @Override
+        public void run() {
+            complete(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.comandulli.lib.view.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free counter spread over several cells, so threads adding at the same time
+ * rarely contend on the same cell.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class StripedCounter {
+
+    /**
+     * Distance between two cells, in longs, so each cell sits in its own cache line.
+     */
+    private static final int PADDING = 8;
+    /**
+     * The cells.
+     */
+    private final AtomicLongArray cells;
+    /**
+     * Mask of the stripe index.
+     */
+    private final int mask;
+
+    /**
+     * Instantiate a counter with one stripe per processor.
+     */
+    public StripedCounter() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Instantiate a counter.
+     *
+     * @param stripes amount of cells, rounded up to a power of two
+     */
+    public StripedCounter(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        this.mask = size - 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+    }
+
+    /**
+     * Add to this counter.
+     *
+     * @param delta amount to be added
+     */
+    public void add(long delta) {
+        int stripe = (int) Thread.currentThread().getId() & mask;
+        cells.addAndGet(stripe * PADDING, delta);
+    }
+
+    /**
+     * Add one to this counter.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Current value of this counter, not an atomic snapshot while threads are adding.
+     *
+     * @return the sum of the cells
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * Reset this counter to zero.
+     */
+    public void reset() {
+        for (int i = 0; i <= mask; i++) {
+            cells.set(i * PADDING, 0);
+        }
+    }
+
+}
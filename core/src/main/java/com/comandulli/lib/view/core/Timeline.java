@@ -0,0 +1,123 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Absolute deadline timeline of a sequence of steps.
+ * <p>
+ * Each deadline is planned from the previous deadline instead of the time the previous
+ * step actually ran, so delays do not accumulate, and the difference between the
+ * measured and the planned time of each step is kept as the drift.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class Timeline {
+
+    /**
+     * Planned time of the next step.
+     */
+    private long deadline;
+    /**
+     * Difference between the measured and planned time of the last step.
+     */
+    private long drift;
+    /**
+     * Largest difference between the measured and planned time of a step.
+     */
+    private long maxDrift;
+
+    /**
+     * Start the timeline, clearing the drift.
+     *
+     * @param now current time
+     */
+    public void start(long now) {
+        deadline = now;
+        drift = 0;
+        maxDrift = 0;
+    }
+
+    /**
+     * Restart the timeline from now, keeping the drift, such as after waiting for an event.
+     *
+     * @param now current time
+     */
+    public void rebase(long now) {
+        deadline = now;
+    }
+
+    /**
+     * Shift every coming deadline, such as after a pause.
+     *
+     * @param delta the shift
+     */
+    public void shift(long delta) {
+        deadline += delta;
+    }
+
+    /**
+     * Plan the next step.
+     *
+     * @param duration time after the current deadline
+     * @return the deadline of the next step
+     */
+    public long advance(long duration) {
+        deadline += duration;
+        return deadline;
+    }
+
+    /**
+     * Measure how late the current step runs compared to its deadline.
+     *
+     * @param now current time
+     * @return the drift, positive when late
+     */
+    public long measure(long now) {
+        drift = now - deadline;
+        if (drift > maxDrift) {
+            maxDrift = drift;
+        }
+        return drift;
+    }
+
+    /**
+     * Amount of whole periods the current step is late, plus the current one,
+     * for steps that catch up instead of falling behind.
+     *
+     * @param period the period of the steps
+     * @return the amount, at least one
+     */
+    public int periods(long period) {
+        if (period <= 0 || drift <= 0) {
+            return 1;
+        }
+        return 1 + (int) (drift / period);
+    }
+
+    /**
+     * Planned time of the next step.
+     *
+     * @return the deadline
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Difference between the measured and planned time of the last step.
+     *
+     * @return the drift, positive when late
+     */
+    public long getDrift() {
+        return drift;
+    }
+
+    /**
+     * Largest difference between the measured and planned time of a step since {@link #start(long)}.
+     *
+     * @return the drift, positive when late
+     */
+    public long getMaxDrift() {
+        return maxDrift;
+    }
+
+}
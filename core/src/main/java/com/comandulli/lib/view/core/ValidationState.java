@@ -0,0 +1,80 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Validation state of an input, if it has an error and the resource of its text.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ValidationState {
+
+    /**
+     * Value of {@link #getErrorResource()} when there is no error.
+     */
+    public static final int NO_ERROR = 0;
+    /**
+     * If the input has an error.
+     */
+    private boolean hasError;
+    /**
+     * Resource of the error text.
+     */
+    private int errorResource = NO_ERROR;
+
+    /**
+     * Declare the input as invalid.
+     *
+     * @param errorResource the error text resource
+     */
+    public void invalidate(int errorResource) {
+        this.hasError = true;
+        this.errorResource = errorResource;
+    }
+
+    /**
+     * Reset the input to its original state.
+     *
+     * @return if it had an error
+     */
+    public boolean reset() {
+        boolean hadError = hasError;
+        this.hasError = false;
+        this.errorResource = NO_ERROR;
+        return hadError;
+    }
+
+    /**
+     * Check a value against a validator, declaring the input invalid if it fails.
+     *
+     * @param validator     the validator
+     * @param value         the value
+     * @param errorResource the error text resource
+     * @return if it is valid
+     */
+    public boolean validate(Validator validator, String value, int errorResource) {
+        if (validator.validate(value)) {
+            return true;
+        }
+        invalidate(errorResource);
+        return false;
+    }
+
+    /**
+     * If the input has an error.
+     *
+     * @return if it has an error
+     */
+    public boolean hasError() {
+        return hasError;
+    }
+
+    /**
+     * Resource of the error text, {@link #NO_ERROR} when there is none.
+     *
+     * @return the resource
+     */
+    public int getErrorResource() {
+        return errorResource;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.comandulli.lib.view.core;
+
+/**
+ * Validates the value of an input, such as a required field or a length.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public interface Validator {
+
+    /**
+     * Check a value.
+     *
+     * @param value the value
+     * @return if it is valid
+     */
+    boolean validate(String value);
+
+}
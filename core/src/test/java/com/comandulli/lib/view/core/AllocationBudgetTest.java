@@ -0,0 +1,221 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Test;
+
+/**
+ * Allocation budgets of the per event paths, in bytes per event, measured by {@link AllocationBudget}.
+ * A path going over its budget fails the build.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class AllocationBudgetTest {
+
+    /**
+     * A scroll tick of {@link ScrollEngine}, the ScrollableTextView scroll tick.
+     */
+    private static final long SCROLL_TICK_BUDGET = 0;
+    /**
+     * Measuring and planning a {@link Timeline} step, the FadeAnim and ScrollableTextView steps.
+     */
+    private static final long TIMELINE_STEP_BUDGET = 0;
+    /**
+     * An accepted and released click of {@link ClickLock}, the LockedClickListener onClick.
+     */
+    private static final long LOCKED_CLICK_BUDGET = 0;
+    /**
+     * A suppressed click of a throttling {@link ClickLock}.
+     */
+    private static final long THROTTLED_CLICK_BUDGET = 0;
+    /**
+     * A whole {@link HoldTracker} hold, the ProgressButtonTouchListener onTouch events and its frames.
+     */
+    private static final long HOLD_BUDGET = 0;
+    /**
+     * A validation chain on a {@link ValidationState}, with validators that do not allocate themselves.
+     */
+    private static final long VALIDATION_BUDGET = 0;
+    /**
+     * A keystroke through {@link MaskState} and the change it causes, the TextMask onTextChanged,
+     * the String copy of the edited text only, the mask itself belongs to the app.
+     */
+    private static final long MASK_KEYSTROKE_BUDGET = 48;
+    /**
+     * Keeps the arrays allocated by {@link #overBudgetFails()} reachable.
+     */
+    private static Object sink;
+
+    @Test(expected = AssertionError.class)
+    public void overBudgetFails() {
+        AllocationBudget.assertWithin("Allocating path", 0, new Runnable() {
+            @Override
+            public void run() {
+                sink = new long[4];
+            }
+        });
+    }
+
+    @Test
+    public void scrollTick() {
+        final FakeScheduler scheduler = new FakeScheduler(0);
+        ScrollEngine engine = new ScrollEngine(scheduler, new ScrollEngine.Target() {
+            @Override
+            public int getOverflow() {
+                return 600;
+            }
+
+            @Override
+            public void scrollTo(int offset) {
+            }
+        });
+        engine.setScrollSpeedPixelsPerSecond(120);
+        engine.start();
+        AllocationBudget.assertWithin("ScrollEngine tick", SCROLL_TICK_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                scheduler.runNext(scheduler.getNextTime());
+            }
+        });
+    }
+
+    @Test
+    public void timelineStep() {
+        final Timeline timeline = new Timeline();
+        timeline.start(0);
+        AllocationBudget.assertWithin("Timeline step", TIMELINE_STEP_BUDGET, new Runnable() {
+            private long now;
+
+            @Override
+            public void run() {
+                now += 17;
+                timeline.measure(now);
+                timeline.advance(16L * timeline.periods(16));
+            }
+        });
+    }
+
+    @Test
+    public void lockedClick() {
+        final ClickLock lock = new ClickLock(true, 0);
+        AllocationBudget.assertWithin("ClickLock locked click", LOCKED_CLICK_BUDGET, new Runnable() {
+            private long now;
+
+            @Override
+            public void run() {
+                long word = lock.tryLock(now++);
+                lock.tryLock(now++);
+                lock.release(word);
+            }
+        });
+    }
+
+    @Test
+    public void throttledClick() {
+        final ClickLock lock = new ClickLock(false, 300);
+        AllocationBudget.assertWithin("ClickLock throttled click", THROTTLED_CLICK_BUDGET, new Runnable() {
+            private long now;
+
+            @Override
+            public void run() {
+                now += 7;
+                lock.tryLock(now);
+            }
+        });
+    }
+
+    @Test
+    public void hold() {
+        final long[] now = new long[1];
+        final HoldTracker hold = new HoldTracker(100, new HoldTracker.OnHoldListener() {
+            @Override
+            public void onHoldStart() {
+            }
+
+            @Override
+            public void onHoldComplete(long latencyMillis) {
+            }
+
+            @Override
+            public void onHoldCancel() {
+            }
+        }) {
+            @Override
+            protected long now() {
+                return now[0];
+            }
+
+            @Override
+            protected void requestFrame() {
+            }
+
+            @Override
+            protected void cancelFrame() {
+            }
+        };
+        AllocationBudget.assertWithin("HoldTracker hold", HOLD_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                long down = now[0] += 1000;
+                hold.down(down, 0);
+                for (long frame = down; hold.frame(frame); frame += 16) {
+                    hold.getProgress(frame, 100);
+                }
+                hold.up(down + 120);
+                hold.down(down + 200, 0);
+                hold.pointerUp(0, down + 250);
+            }
+        });
+    }
+
+    @Test
+    public void validationChain() {
+        final ValidationState state = new ValidationState();
+        final Validator notEmpty = new Validator() {
+            @Override
+            public boolean validate(String value) {
+                return !value.isEmpty();
+            }
+        };
+        final Validator length = new Validator() {
+            @Override
+            public boolean validate(String value) {
+                return value.length() == 8;
+            }
+        };
+        AllocationBudget.assertWithin("ValidationState chain", VALIDATION_BUDGET, new Runnable() {
+            @Override
+            public void run() {
+                state.reset();
+                if (state.validate(notEmpty, "ABC-1234", 1)) {
+                    state.validate(length, "ABC-123", 2);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void maskKeystroke() {
+        // the edited text is mutable, as an Editable is, and the mask hands back what it gets
+        final StringBuilder[] edits = {new StringBuilder("ABC-1234"), new StringBuilder("ABC-1235")};
+        final MaskState state = new MaskState(new Mask() {
+            @Override
+            public String mask(String value) {
+                return value;
+            }
+        });
+        AllocationBudget.assertWithin("MaskState keystroke", MASK_KEYSTROKE_BUDGET, new Runnable() {
+            private int keystroke;
+
+            @Override
+            public void run() {
+                StringBuilder edit = edits[keystroke++ & 1];
+                if (!state.isWatched(edit)) {
+                    String value = state.mask(edit);
+                    // the change caused by setting the masked value
+                    state.isWatched(value);
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link ClickLock}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ClickLockTest {
+
+    @Test
+    public void lockedClicksAreSuppressedUntilReleased() {
+        ClickLock lock = new ClickLock(true, 0);
+        long word = lock.tryLock(0);
+        assertNotEquals(ClickLock.SUPPRESSED, word);
+        assertTrue(lock.isLocked());
+        assertEquals(ClickLock.SUPPRESSED, lock.tryLock(10));
+        assertEquals(1, lock.getSuppressedClicks());
+        assertTrue(lock.release(word));
+        assertFalse(lock.isLocked());
+        assertNotEquals(ClickLock.SUPPRESSED, lock.tryLock(20));
+    }
+
+    @Test
+    public void staleWordDoesNotReleaseANewerLock() {
+        ClickLock lock = new ClickLock(true, 0);
+        long stale = lock.tryLock(0);
+        lock.unlock();
+        long current = lock.tryLock(10);
+        assertFalse(lock.release(stale));
+        assertTrue(lock.isLocked());
+        assertTrue(lock.release(current));
+        assertFalse(lock.release(current));
+    }
+
+    @Test
+    public void throttledClicksAreSuppressedWithinTheWindow() {
+        ClickLock lock = new ClickLock(false, 500);
+        assertNotEquals(ClickLock.SUPPRESSED, lock.tryLock(1000));
+        assertFalse(lock.isLocked());
+        assertEquals(ClickLock.SUPPRESSED, lock.tryLock(1499));
+        assertNotEquals(ClickLock.SUPPRESSED, lock.tryLock(1500));
+        assertEquals(1, lock.getSuppressedClicks());
+    }
+
+    @Test
+    public void throttleOnlyLockReleasesItsAcceptedClicks() {
+        ClickLock lock = new ClickLock(false, 300);
+        long word = lock.tryLock(1000);
+        assertNotEquals(ClickLock.SUPPRESSED, word);
+        assertTrue(lock.release(word));
+        assertFalse(lock.isLocked());
+        assertFalse(lock.release(ClickLock.SUPPRESSED));
+        // releasing does not reopen the throttle window
+        assertEquals(ClickLock.SUPPRESSED, lock.tryLock(1100));
+        assertTrue(lock.release(lock.tryLock(1300)));
+    }
+
+    @Test
+    public void onSuppressedIsCalledForEverySuppressedClick() {
+        final int[] suppressed = new int[1];
+        ClickLock lock = new ClickLock(true, 0) {
+            @Override
+            protected void onSuppressed() {
+                suppressed[0]++;
+            }
+        };
+        lock.tryLock(0);
+        lock.tryLock(1);
+        lock.tryLock(2);
+        assertEquals(2, suppressed[0]);
+    }
+
+}
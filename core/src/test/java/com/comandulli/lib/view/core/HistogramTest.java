@@ -0,0 +1,69 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of {@link Histogram}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class HistogramTest {
+
+    @Test
+    public void bucketOfSplitsOnPowersOfTwo() {
+        assertEquals(0, Histogram.bucketOf(-7));
+        assertEquals(0, Histogram.bucketOf(0));
+        assertEquals(1, Histogram.bucketOf(1));
+        assertEquals(2, Histogram.bucketOf(2));
+        assertEquals(2, Histogram.bucketOf(3));
+        assertEquals(3, Histogram.bucketOf(4));
+        assertEquals(10, Histogram.bucketOf(1023));
+        assertEquals(11, Histogram.bucketOf(1024));
+        assertEquals(Histogram.BUCKETS - 1, Histogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void upperBoundOfIsTheLargestValueOfTheBucket() {
+        assertEquals(0, Histogram.upperBoundOf(0));
+        assertEquals(1, Histogram.upperBoundOf(1));
+        assertEquals(3, Histogram.upperBoundOf(2));
+        assertEquals(1023, Histogram.upperBoundOf(10));
+        assertEquals(Long.MAX_VALUE, Histogram.upperBoundOf(Histogram.BUCKETS - 1));
+        for (long value = 1; value < 5000; value++) {
+            assertEquals(Histogram.bucketOf(value), Histogram.bucketOf(Histogram.upperBoundOf(Histogram.bucketOf(value))));
+        }
+    }
+
+    @Test
+    public void getQuantileReturnsTheBoundOfItsBucket() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getQuantile(0.5));
+        for (int i = 0; i < 90; i++) {
+            histogram.record(5);
+        }
+        for (int i = 0; i < 9; i++) {
+            histogram.record(100);
+        }
+        histogram.record(5000);
+        assertEquals(100, histogram.getCount());
+        assertEquals(90 * 5 + 9 * 100 + 5000, histogram.getSum());
+        assertEquals(7, histogram.getQuantile(0.5));
+        assertEquals(7, histogram.getQuantile(0.9));
+        assertEquals(127, histogram.getQuantile(0.99));
+        assertEquals(8191, histogram.getQuantile(1));
+    }
+
+    @Test
+    public void resetClearsEverything() {
+        Histogram histogram = new Histogram();
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getQuantile(1));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link HoldTracker}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class HoldTrackerTest {
+
+    /**
+     * Events received by the listener, in order.
+     */
+    private final StringBuilder events = new StringBuilder();
+    /**
+     * Current time of the tracker.
+     */
+    private long now;
+    /**
+     * If a frame has been requested.
+     */
+    private boolean frameRequested;
+    /**
+     * The tracker, holding for 500 milliseconds.
+     */
+    private HoldTracker tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new HoldTracker(500, new HoldTracker.OnHoldListener() {
+            @Override
+            public void onHoldStart() {
+                events.append("start ");
+            }
+
+            @Override
+            public void onHoldComplete(long latencyMillis) {
+                events.append("complete ").append(latencyMillis).append(' ');
+            }
+
+            @Override
+            public void onHoldCancel() {
+                events.append("cancel ");
+            }
+        }) {
+            @Override
+            protected long now() {
+                return now;
+            }
+
+            @Override
+            protected void requestFrame() {
+                frameRequested = true;
+            }
+
+            @Override
+            protected void cancelFrame() {
+                frameRequested = false;
+            }
+        };
+    }
+
+    @Test
+    public void completesOnTheFirstFramePastTheDeadline() {
+        tracker.down(1000, 0);
+        assertTrue(frameRequested);
+        assertTrue(tracker.frame(1499));
+        now = 1516;
+        assertFalse(tracker.frame(1516));
+        assertFalse(frameRequested);
+        tracker.up(1600);
+        assertEquals("start complete 16 ", events.toString());
+    }
+
+    @Test
+    public void releaseBeforeTheDeadlineCancels() {
+        tracker.down(1000, 0);
+        tracker.up(1499);
+        assertFalse(tracker.isHolding());
+        assertFalse(tracker.frame(1600));
+        assertEquals("start cancel ", events.toString());
+    }
+
+    @Test
+    public void releasePastTheDeadlineCompletesWithoutAFrame() {
+        tracker.down(1000, 0);
+        now = 1520;
+        tracker.up(1510);
+        assertEquals("start complete 20 ", events.toString());
+    }
+
+    @Test
+    public void onlyTheTrackedPointerReleases() {
+        tracker.down(1000, 3);
+        tracker.pointerUp(4, 1100);
+        assertTrue(tracker.isHolding());
+        tracker.pointerUp(3, 1200);
+        assertFalse(tracker.isHolding());
+        assertEquals("start cancel ", events.toString());
+    }
+
+    @Test
+    public void progressFollowsTheElapsedTime() {
+        tracker.down(1000, 0);
+        assertEquals(0, tracker.getProgress(900, 100));
+        assertEquals(0, tracker.getProgress(1000, 100));
+        assertEquals(50, tracker.getProgress(1250, 100));
+        assertEquals(100, tracker.getProgress(2000, 100));
+    }
+
+}
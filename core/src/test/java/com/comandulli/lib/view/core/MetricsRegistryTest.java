@@ -0,0 +1,53 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of {@link MetricsRegistry} and {@link StripedCounter}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class MetricsRegistryTest {
+
+    @Test
+    public void countersSumAcrossThreads() throws InterruptedException {
+        final StripedCounter counter = new StripedCounter(4);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 10000; j++) {
+                        counter.increment();
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40000, counter.sum());
+        counter.reset();
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    public void registryKeepsOneCounterAndHistogramPerId() {
+        MetricsRegistry registry = new MetricsRegistry(2, 2);
+        registry.count(1, 5);
+        registry.count(1, 2);
+        registry.record(0, 10);
+        assertEquals(0, registry.getCounter(0).sum());
+        assertEquals(7, registry.getCounter(1).sum());
+        assertEquals(1, registry.getHistogram(0).getCount());
+        assertEquals(0, registry.getHistogram(1).getCount());
+        registry.reset();
+        assertEquals(0, registry.getCounter(1).sum());
+        assertEquals(0, registry.getHistogram(0).getCount());
+    }
+
+}
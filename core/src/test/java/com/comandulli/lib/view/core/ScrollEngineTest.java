@@ -0,0 +1,129 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of {@link ScrollEngine}, driven by a {@link FakeScheduler}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ScrollEngineTest {
+
+    /**
+     * Scheduler of the engine.
+     */
+    private final FakeScheduler scheduler = new FakeScheduler(0);
+    /**
+     * Overflow of the target.
+     */
+    private int overflow = 10;
+    /**
+     * Offset applied to the target.
+     */
+    private int offset;
+    /**
+     * The engine.
+     */
+    private ScrollEngine engine;
+
+    @Before
+    public void setUp() {
+        engine = new ScrollEngine(scheduler, new ScrollEngine.Target() {
+            @Override
+            public int getOverflow() {
+                return overflow;
+            }
+
+            @Override
+            public void scrollTo(int offset) {
+                ScrollEngineTest.this.offset = offset;
+            }
+        });
+        engine.setTimeToStart(100);
+        engine.setTimeToReset(200);
+        engine.setTick(10);
+        engine.setScrollSpeed(1);
+    }
+
+    @Test
+    public void scrollsOnceStartedThenJumpsBack() {
+        engine.start();
+        scheduler.advanceTo(99);
+        assertEquals(0, offset);
+        scheduler.advanceTo(100);
+        assertEquals(1, offset);
+        scheduler.advanceTo(190);
+        assertEquals(10, offset);
+        // waits at the end, then jumps back and waits to start
+        scheduler.advanceTo(389);
+        assertEquals(10, offset);
+        scheduler.advanceTo(390);
+        assertEquals(0, offset);
+        scheduler.advanceTo(490);
+        assertEquals(1, offset);
+    }
+
+    @Test
+    public void pingPongScrollsBack() {
+        engine.setPingPong(true);
+        engine.start();
+        scheduler.advanceTo(190);
+        assertEquals(10, offset);
+        scheduler.advanceTo(390);
+        assertEquals(9, offset);
+        scheduler.advanceTo(480);
+        assertEquals(0, offset);
+        scheduler.advanceTo(580);
+        assertEquals(1, offset);
+    }
+
+    @Test
+    public void lateStepsCatchUp() {
+        engine.start();
+        scheduler.advanceTo(100);
+        assertEquals(1, offset);
+        scheduler.stall(45);
+        scheduler.advanceTo(scheduler.now());
+        // the step planned at 110 runs at 145, applying the ticks of 110 to 140 at once
+        assertEquals(5, offset);
+        assertEquals(35, engine.getScheduleDrift());
+        assertEquals(150, scheduler.getNextTime());
+    }
+
+    @Test
+    public void speedInPixelsPerSecondDoesNotDependOnTheTick() {
+        overflow = 1000;
+        engine.setScrollSpeedPixelsPerSecond(200);
+        engine.start();
+        scheduler.advanceTo(1090);
+        assertEquals(200, offset);
+        engine.setTick(40);
+        engine.start();
+        // restarted at 1090, steps of 8 pixels from 1190 on
+        scheduler.advanceTo(2150);
+        assertEquals(200, offset);
+    }
+
+    @Test
+    public void stopCancelsAndMovesBackToTheStart() {
+        engine.start();
+        scheduler.advanceTo(150);
+        engine.stop();
+        assertEquals(0, offset);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void nothingToScrollChecksAgainLater() {
+        overflow = 0;
+        engine.start();
+        scheduler.advanceTo(100);
+        assertEquals(300, scheduler.getNextTime());
+        assertEquals(0, offset);
+    }
+
+}
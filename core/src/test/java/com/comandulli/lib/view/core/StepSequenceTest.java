@@ -0,0 +1,153 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link StepSequence}, driven by a {@link FakeScheduler}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class StepSequenceTest {
+
+    /**
+     * Scheduler of the sequence.
+     */
+    private final FakeScheduler scheduler = new FakeScheduler(0);
+    /**
+     * Events of the steps, in order.
+     */
+    private final StringBuilder events = new StringBuilder();
+    /**
+     * The sequence.
+     */
+    private StepSequence sequence;
+
+    @Before
+    public void setUp() {
+        sequence = new StepSequence(scheduler) {
+            @Override
+            protected void onStepDone(int index) {
+                events.append("done").append(index).append(' ');
+            }
+
+            @Override
+            protected void onFinish() {
+                events.append("finish ");
+            }
+        };
+    }
+
+    /**
+     * A step recording its start and end.
+     *
+     * @param name name of the step
+     * @return the step
+     */
+    private StepSequence.Step step(final String name) {
+        return new StepSequence.Step() {
+            @Override
+            public void start() {
+                events.append(name).append("@").append(scheduler.now()).append(' ');
+            }
+
+            @Override
+            public void end() {
+                events.append('/').append(name).append("@").append(scheduler.now()).append(' ');
+            }
+        };
+    }
+
+    @Test
+    public void stepsRunInOrderOnTheirDeadlines() {
+        sequence.add(step("a"), 100, false);
+        sequence.add(null, 50, false);
+        sequence.add(step("b"), 200, false);
+        sequence.start(1000);
+        scheduler.advanceTo(999);
+        assertEquals("", events.toString());
+        scheduler.advanceTo(2000);
+        assertEquals("a@1000 done0 /a@1100 done1 b@1150 done2 finish /b@1350 ", events.toString());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void lateStepsDoNotDelayTheNextDeadlines() {
+        sequence.add(step("a"), 100, false);
+        sequence.add(step("b"), 100, false);
+        sequence.start(0);
+        scheduler.runNext(0);
+        scheduler.stall(130);
+        scheduler.runNext(Long.MAX_VALUE);
+        assertEquals(30, sequence.getDrift());
+        assertEquals(200, scheduler.getNextTime());
+    }
+
+    @Test
+    public void stepWaitsForTrigger() {
+        sequence.add(step("a"), 100, false);
+        sequence.add(step("b"), 100, true);
+        sequence.start(0);
+        scheduler.advanceTo(500);
+        assertTrue(sequence.isWaitingForTrigger());
+        assertEquals(1, sequence.getCurrentStep());
+        sequence.trigger();
+        assertFalse(sequence.isWaitingForTrigger());
+        scheduler.advanceTo(1000);
+        assertEquals("a@0 done0 /a@100 b@500 done1 finish /b@600 ", events.toString());
+        assertEquals(0, sequence.getDrift());
+    }
+
+    @Test
+    public void resumeShiftsTheRestOfTheSequence() {
+        sequence.add(step("a"), 100, false);
+        sequence.add(step("b"), 100, false);
+        sequence.start(0);
+        scheduler.advanceTo(50);
+        sequence.pause();
+        assertTrue(sequence.isPaused());
+        scheduler.advanceTo(1050);
+        assertEquals("a@0 ", events.toString());
+        sequence.resume();
+        scheduler.advanceTo(2000);
+        assertEquals("a@0 done0 /a@1100 b@1100 done1 finish /b@1200 ", events.toString());
+        assertEquals(0, sequence.getMaxDrift());
+    }
+
+    @Test
+    public void triggerWhilePausedKeepsTheTimeline() {
+        sequence.add(step("a"), 100, true);
+        sequence.add(step("b"), 100, false);
+        sequence.start(0);
+        scheduler.advanceTo(100);
+        sequence.pause();
+        scheduler.advanceTo(300);
+        sequence.trigger();
+        scheduler.advanceTo(500);
+        assertEquals("a@300 ", events.toString());
+        sequence.resume();
+        scheduler.advanceTo(1000);
+        assertEquals("a@300 done0 /a@600 b@600 done1 finish /b@700 ", events.toString());
+        assertEquals(0, sequence.getDrift());
+        assertEquals(0, sequence.getMaxDrift());
+    }
+
+    @Test
+    public void startCancelsAPausedRun() {
+        sequence.add(step("a"), 100, false);
+        sequence.start(0);
+        scheduler.advanceTo(50);
+        sequence.pause();
+        sequence.start(0);
+        assertFalse(sequence.isPaused());
+        assertEquals(1, scheduler.getPendingCount());
+        scheduler.advanceTo(200);
+        assertEquals("a@0 a@50 done0 finish /a@150 ", events.toString());
+    }
+
+}
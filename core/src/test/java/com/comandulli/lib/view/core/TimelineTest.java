@@ -0,0 +1,89 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of {@link Timeline}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class TimelineTest {
+
+    @Test
+    public void advancePlansFromThePreviousDeadline() {
+        Timeline timeline = new Timeline();
+        timeline.start(1000);
+        assertEquals(1100, timeline.advance(100));
+        // running late does not push the next deadline
+        timeline.measure(1130);
+        assertEquals(1200, timeline.advance(100));
+    }
+
+    @Test
+    public void measureKeepsTheDriftAndTheLargestDrift() {
+        Timeline timeline = new Timeline();
+        timeline.start(0);
+        timeline.advance(100);
+        assertEquals(25, timeline.measure(125));
+        timeline.advance(100);
+        assertEquals(-5, timeline.measure(195));
+        assertEquals(-5, timeline.getDrift());
+        assertEquals(25, timeline.getMaxDrift());
+    }
+
+    @Test
+    public void startClearsTheDriftAndRebaseKeepsIt() {
+        Timeline timeline = new Timeline();
+        timeline.start(0);
+        timeline.advance(10);
+        timeline.measure(50);
+        timeline.rebase(500);
+        assertEquals(500, timeline.getDeadline());
+        assertEquals(40, timeline.getMaxDrift());
+        timeline.start(500);
+        assertEquals(0, timeline.getDrift());
+        assertEquals(0, timeline.getMaxDrift());
+    }
+
+    @Test
+    public void periodsCountsTheWholePeriodsMissed() {
+        Timeline timeline = new Timeline();
+        timeline.start(0);
+        timeline.advance(10);
+        timeline.measure(10);
+        assertEquals(1, timeline.periods(10));
+        timeline.measure(19);
+        assertEquals(1, timeline.periods(10));
+        timeline.measure(20);
+        assertEquals(2, timeline.periods(10));
+        timeline.measure(45);
+        assertEquals(4, timeline.periods(10));
+    }
+
+    @Test
+    public void periodsIsOneWhenEarlyOrWithoutPeriod() {
+        Timeline timeline = new Timeline();
+        timeline.start(0);
+        timeline.advance(10);
+        timeline.measure(5);
+        assertEquals(1, timeline.periods(10));
+        timeline.measure(100);
+        assertEquals(1, timeline.periods(0));
+    }
+
+    @Test
+    public void shiftMovesTheComingDeadlines() {
+        Timeline timeline = new Timeline();
+        timeline.start(0);
+        timeline.advance(100);
+        timeline.shift(250);
+        assertEquals(350, timeline.getDeadline());
+        assertEquals(450, timeline.advance(100));
+        timeline.shift(-50);
+        assertEquals(400, timeline.getDeadline());
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.comandulli.lib.view.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of {@link ValidationState}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ValidationStateTest {
+
+    /**
+     * Accepts values that are not empty.
+     */
+    private static final Validator NOT_EMPTY = new Validator() {
+        @Override
+        public boolean validate(String value) {
+            return !value.isEmpty();
+        }
+    };
+
+    @Test
+    public void validateInvalidatesOnlyWhenTheValidatorFails() {
+        ValidationState state = new ValidationState();
+        assertTrue(state.validate(NOT_EMPTY, "value", 7));
+        assertFalse(state.hasError());
+        assertEquals(ValidationState.NO_ERROR, state.getErrorResource());
+        assertFalse(state.validate(NOT_EMPTY, "", 7));
+        assertTrue(state.hasError());
+        assertEquals(7, state.getErrorResource());
+    }
+
+    @Test
+    public void resetTellsIfItHadAnError() {
+        ValidationState state = new ValidationState();
+        assertFalse(state.reset());
+        state.invalidate(3);
+        assertTrue(state.reset());
+        assertFalse(state.hasError());
+        assertEquals(ValidationState.NO_ERROR, state.getErrorResource());
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.comandulli.lib.view.core;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes a per event path allocates on the calling thread, with
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}, and fails when it goes over its budget.
+ * <p>
+ * The path is run first until it is compiled, so only the allocations that survive
+ * the JIT are counted, then measured over many events and averaged.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public final class AllocationBudget {
+
+    /**
+     * Events run before measuring, enough for the path to be compiled.
+     */
+    public static final int WARMUP_EVENTS = 50000;
+    /**
+     * Events measured.
+     */
+    public static final int MEASURED_EVENTS = 20000;
+    /**
+     * Thread bean, reading the allocated bytes of a thread.
+     */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Static access only.
+     */
+    private AllocationBudget() {
+    }
+
+    /**
+     * Measure the bytes allocated per event, on the calling thread.
+     *
+     * @param event the path, run once per event
+     * @return the average bytes per event
+     */
+    public static double measure(Runnable event) {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException("thread allocated memory is not supported by this JVM");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        for (int i = 0; i < WARMUP_EVENTS; i++) {
+            event.run();
+        }
+        long thread = Thread.currentThread().getId();
+        // the bean itself may allocate, measured the same way and discounted
+        long overhead = THREADS.getThreadAllocatedBytes(thread);
+        overhead = THREADS.getThreadAllocatedBytes(thread) - overhead;
+        long before = THREADS.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_EVENTS; i++) {
+            event.run();
+        }
+        long allocated = THREADS.getThreadAllocatedBytes(thread) - before - overhead;
+        return Math.max(0, allocated) / (double) MEASURED_EVENTS;
+    }
+
+    /**
+     * Measure a path and fail if it allocates over its budget.
+     * Less than a byte per event is not an allocation of every event, such as a single
+     * deoptimization during the measure, it is not counted against the budget.
+     *
+     * @param path   name of the path, for the report
+     * @param budget bytes the path may allocate per event
+     * @param event  the path, run once per event
+     * @return the average bytes per event
+     */
+    public static double assertWithin(String path, long budget, Runnable event) {
+        double bytes = measure(event);
+        if (bytes >= budget + 1) {
+            throw new AssertionError(String.format("%s allocates %.2f bytes per event, budget %d", path, bytes, budget));
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,264 @@
+package com.comandulli.lib.view.core;
+
+import java.util.Arrays;
+
+/**
+ * {@link Scheduler} driven by a manual clock, running the tasks on the calling thread.
+ * <p>
+ * Tasks are kept in parallel arrays, so posting and running them does not allocate
+ * once the arrays have grown to the amount of tasks pending at once.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class FakeScheduler implements Scheduler {
+
+    /**
+     * Owners of the pending tasks.
+     */
+    private Object[] owners = new Object[16];
+    /**
+     * Pending tasks.
+     */
+    private Runnable[] runnables = new Runnable[16];
+    /**
+     * Times of the pending tasks, or the time they had left while paused.
+     */
+    private long[] times = new long[16];
+    /**
+     * If the pending tasks are paused.
+     */
+    private boolean[] paused = new boolean[16];
+    /**
+     * Amount of pending tasks.
+     */
+    private int size;
+    /**
+     * Owners whose tasks are paused.
+     */
+    private Object[] pausedOwners = new Object[4];
+    /**
+     * Amount of paused owners.
+     */
+    private int pausedSize;
+    /**
+     * Current time.
+     */
+    private long now;
+
+    /**
+     * Instantiate a scheduler starting at a given time.
+     *
+     * @param now the time
+     */
+    public FakeScheduler(long now) {
+        this.now = now;
+    }
+
+    /**
+     * Current time of the manual clock.
+     *
+     * @return the time
+     */
+    @Override
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Queue a task.
+     *
+     * @param owner    owner of the task
+     * @param runnable the task
+     * @param time     the time
+     */
+    @Override
+    public void postAtTime(Object owner, Runnable runnable, long time) {
+        if (size == owners.length) {
+            owners = Arrays.copyOf(owners, size * 2);
+            runnables = Arrays.copyOf(runnables, size * 2);
+            times = Arrays.copyOf(times, size * 2);
+            paused = Arrays.copyOf(paused, size * 2);
+        }
+        boolean pause = isPaused(owner);
+        owners[size] = owner;
+        runnables[size] = runnable;
+        times[size] = pause ? time - now : time;
+        paused[size] = pause;
+        size++;
+    }
+
+    /**
+     * Drop every task of an owner.
+     *
+     * @param owner the owner
+     */
+    @Override
+    public void cancel(Object owner) {
+        int i = 0;
+        while (i < size) {
+            if (owners[i] == owner) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Pause every task of an owner, keeping the time they have left.
+     *
+     * @param owner the owner
+     */
+    @Override
+    public void pause(Object owner) {
+        if (isPaused(owner)) {
+            return;
+        }
+        if (pausedSize == pausedOwners.length) {
+            pausedOwners = Arrays.copyOf(pausedOwners, pausedSize * 2);
+        }
+        pausedOwners[pausedSize++] = owner;
+        for (int i = 0; i < size; i++) {
+            if (owners[i] == owner && !paused[i]) {
+                times[i] -= now;
+                paused[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Resume the paused tasks of an owner.
+     *
+     * @param owner the owner
+     */
+    @Override
+    public void resume(Object owner) {
+        for (int i = 0; i < pausedSize; i++) {
+            if (pausedOwners[i] == owner) {
+                pausedOwners[i] = pausedOwners[--pausedSize];
+                pausedOwners[pausedSize] = null;
+                for (int j = 0; j < size; j++) {
+                    if (owners[j] == owner && paused[j]) {
+                        times[j] = now + Math.max(0, times[j]);
+                        paused[j] = false;
+                    }
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * If the tasks of an owner are paused.
+     *
+     * @param owner the owner
+     * @return if it is paused
+     */
+    @Override
+    public boolean isPaused(Object owner) {
+        for (int i = 0; i < pausedSize; i++) {
+            if (pausedOwners[i] == owner) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run the earliest task due by a given time, moving the clock to its time.
+     *
+     * @param time the time
+     * @return if a task has run
+     */
+    public boolean runNext(long time) {
+        int next = -1;
+        for (int i = 0; i < size; i++) {
+            if (!paused[i] && times[i] <= time && (next < 0 || times[i] < times[next])) {
+                next = i;
+            }
+        }
+        if (next < 0) {
+            return false;
+        }
+        Runnable runnable = runnables[next];
+        now = Math.max(now, times[next]);
+        remove(next);
+        runnable.run();
+        return true;
+    }
+
+    /**
+     * Run every task due by a given time, in time order, then move the clock to it.
+     *
+     * @param time the time
+     * @return amount of tasks that have run
+     */
+    public int advanceTo(long time) {
+        int count = 0;
+        while (runNext(time)) {
+            count++;
+        }
+        now = Math.max(now, time);
+        return count;
+    }
+
+    /**
+     * Run every task due within a delay from now.
+     *
+     * @param delay the delay
+     * @return amount of tasks that have run
+     */
+    public int advanceBy(long delay) {
+        return advanceTo(now + delay);
+    }
+
+    /**
+     * Move the clock without running anything, such as a busy thread would.
+     *
+     * @param delay the delay
+     */
+    public void stall(long delay) {
+        now += delay;
+    }
+
+    /**
+     * Amount of pending tasks, paused ones included.
+     *
+     * @return the amount
+     */
+    public int getPendingCount() {
+        return size;
+    }
+
+    /**
+     * Time of the earliest task that is not paused.
+     *
+     * @return the time, or {@link Long#MAX_VALUE} when there is none
+     */
+    public long getNextTime() {
+        long next = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            if (!paused[i] && times[i] < next) {
+                next = times[i];
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Remove a task, keeping the order of the others.
+     *
+     * @param index index of the task
+     */
+    private void remove(int index) {
+        size--;
+        System.arraycopy(owners, index + 1, owners, index, size - index);
+        System.arraycopy(runnables, index + 1, runnables, index, size - index);
+        System.arraycopy(times, index + 1, times, index, size - index);
+        System.arraycopy(paused, index + 1, paused, index, size - index);
+        owners[size] = null;
+        runnables[size] = null;
+    }
+
+}
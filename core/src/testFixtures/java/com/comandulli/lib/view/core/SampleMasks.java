@@ -0,0 +1,63 @@
+package com.comandulli.lib.view.core;
+
+import java.util.Locale;
+
+/**
+ * Masks shared by the tests and benchmarks, the voucher mask of the README
+ * written with regular expressions and in a single pass.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public final class SampleMasks {
+
+    /**
+     * Voucher mask as written in the README, upper case, only letters and numbers, dash after the third.
+     */
+    public static final Mask REGEX_VOUCHER = new Mask() {
+        @Override
+        public String mask(String value) {
+            String newValue = value;
+            int origSize = newValue.length();
+            newValue = newValue.toUpperCase(Locale.US);
+            newValue = newValue.replaceAll("[^A-Z0-9]", "");
+            if (origSize > 3) {
+                newValue = newValue.substring(0, 3) + "-" + newValue.substring(3);
+            }
+            return newValue;
+        }
+    };
+    /**
+     * The same voucher mask in a single pass over the characters.
+     */
+    public static final Mask SINGLE_PASS_VOUCHER = new Mask() {
+        @Override
+        public String mask(String value) {
+            int length = value.length();
+            StringBuilder builder = new StringBuilder(length + 1);
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 'a' && c <= 'z') {
+                    c = (char) (c - 'a' + 'A');
+                } else if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                    continue;
+                }
+                if (builder.length() == 3 && length > 3) {
+                    builder.append('-');
+                }
+                builder.append(c);
+            }
+            if (builder.length() == 3 && length > 3) {
+                builder.append('-');
+            }
+            return builder.toString();
+        }
+    };
+
+    /**
+     * Static access only.
+     */
+    private SampleMasks() {
+    }
+
+}
@@ -0,0 +1,274 @@
+package com.comandulli.lib.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+import android.view.View.OnClickListener;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link LockedClickListener} for asynchronous work,
+ * the listener stays locked until the {@link Completion} token is released,
+ * from any thread, or until a timeout runs out.
+ * <p>
+ * Listeners sharing a {@link ClickLockGroup} lock each other.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public abstract class AsyncLockedClickListener implements OnClickListener {
+
+    /**
+     * Default time after which the listener unlocks itself.
+     */
+    public static final long DEFAULT_TIMEOUT = 30000;
+    /**
+     * Updater of {@link Completion#released}, so a click only allocates its token.
+     */
+    private static final AtomicIntegerFieldUpdater<Completion> RELEASED = AtomicIntegerFieldUpdater.newUpdater(Completion.class, "released");
+    /**
+     * Lock of this listener, possibly shared with other listeners.
+     */
+    private final ClickLockGroup group;
+    /**
+     * Main thread handler, where the timeouts are posted.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    /**
+     * Time after which the listener unlocks itself, zero to never time out.
+     */
+    private volatile long timeout;
+    /**
+     * Token of the click holding the lock, null when there is none.
+     */
+    private final AtomicReference<Completion> current = new AtomicReference<>();
+
+    /**
+     * Instantiate a listener with the default timeout.
+     */
+    public AsyncLockedClickListener() {
+        this(DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Instantiate a listener.
+     *
+     * @param timeout time after which the listener unlocks itself, zero to never time out
+     */
+    public AsyncLockedClickListener(long timeout) {
+        this(new ClickLockGroup(), timeout);
+    }
+
+    /**
+     * Instantiate a listener within a lock group.
+     *
+     * @param group   the lock group
+     * @param timeout time after which the listener unlocks itself, zero to never time out
+     */
+    public AsyncLockedClickListener(ClickLockGroup group, long timeout) {
+        this.group = group;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Implementation of the {@link #onClick(View)} method, preventing from any further
+     * onClick calls to fire until the {@link Completion} of this click is released.
+     *
+     * @param view {@link #onClick(View)}
+     */
+    @Override
+    public void onClick(View view) {
+        long word = group.tryLock();
+        if (word == ClickLockGroup.SUPPRESSED) {
+            return;
+        }
+        Completion completion = new Completion(word);
+        current.set(completion);
+        if (timeout > 0) {
+            handler.postDelayed(completion, timeout);
+        }
+        try {
+            lockedOnClick(view, completion);
+        } catch (RuntimeException e) {
+            completion.fail(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Unlock this listener, and its group, whatever the state of the current work, allowing it to fire again.
+     * The token of the current work is discarded and its timeout removed.
+     * Safe to be called from any thread.
+     */
+    public void unlock() {
+        Completion completion = current.get();
+        if (completion != null) {
+            completion.discard();
+        }
+        group.unlock();
+    }
+
+    /**
+     * If this listener, or its group, is locked.
+     *
+     * @return if it is locked
+     */
+    public boolean isLocked() {
+        return group.isLocked();
+    }
+
+    /**
+     * Number of clicks suppressed by the group of this listener.
+     *
+     * @return the count
+     */
+    public long getSuppressedClicks() {
+        return group.getSuppressedClicks();
+    }
+
+    /**
+     * Get the lock group of this listener.
+     *
+     * @return the group
+     */
+    public ClickLockGroup getGroup() {
+        return group;
+    }
+
+    /**
+     * Get the time after which the listener unlocks itself.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Set the time after which the listener unlocks itself, applied from the next click on.
+     *
+     * @param timeout the timeout in milliseconds, zero to never time out
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Function to be executed at {@link #onClick(View)},
+     * this listener stays locked until the completion is released.
+     *
+     * @param view       {@link #onClick(View)}
+     * @param completion token to be released when the work is done
+     */
+    public abstract void lockedOnClick(View view, Completion completion);
+
+    /**
+     * Called when the work of a click is done, on the thread that released it.
+     */
+    @SuppressWarnings("EmptyMethod")
+    public void onCompleted() {
+        // stub
+    }
+
+    /**
+     * Called when the work of a click has failed, on the thread that released it.
+     *
+     * @param error the failure
+     */
+    @SuppressWarnings("EmptyMethod")
+    public void onFailed(Throwable error) {
+        // stub
+    }
+
+    /**
+     * Called on the main thread when the work of a click has not been released in time.
+     */
+    @SuppressWarnings("EmptyMethod")
+    public void onTimeout() {
+        // stub
+    }
+
+    /**
+     * Completion token of a single click, releasing it unlocks the listener.
+     * Only the first release of a token counts, a token never releases a newer lock.
+     * On a group that is not locking, such as {@link ClickLockGroup#throttle(long)}, releasing only reports the work.
+     */
+    public final class Completion implements Runnable {
+
+        /**
+         * If this token has been released, one when released.
+         */
+        private volatile int released;
+        /**
+         * Lock word of the click this token belongs to.
+         */
+        private final long lockedWord;
+
+        /**
+         * Instantiate a token.
+         *
+         * @param lockedWord lock word of the click
+         */
+        private Completion(long lockedWord) {
+            this.lockedWord = lockedWord;
+        }
+
+        /**
+         * The work has been done.
+         */
+        public void done() {
+            if (release()) {
+                onCompleted();
+            }
+        }
+
+        /**
+         * The work has failed.
+         *
+         * @param error the failure
+         */
+        public void fail(Throwable error) {
+            if (release()) {
+                onFailed(error);
+            }
+        }
+
+        /**
+         * Implementation of the timeout.
+         */
+        @Override
+        public void run() {
+            if (release()) {
+                onTimeout();
+            }
+        }
+
+        /**
+         * Release the lock, if it still belongs to this token.
+         *
+         * @return if the lock has been released by this call
+         */
+        private boolean release() {
+            return discard() && group.release(lockedWord);
+        }
+
+        /**
+         * Mark this token as released and remove its timeout, without touching the lock.
+         *
+         * @return if the token has been marked by this call
+         */
+        private boolean discard() {
+            if (!RELEASED.compareAndSet(this, 0, 1)) {
+                return false;
+            }
+            handler.removeCallbacks(this);
+            // a newer click may have taken over already
+            current.compareAndSet(this, null);
+            return true;
+        }
+
+    }
+
+}
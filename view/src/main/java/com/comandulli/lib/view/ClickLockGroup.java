@@ -0,0 +1,64 @@
+package com.comandulli.lib.view;
+
+import android.os.SystemClock;
+
+import com.comandulli.lib.view.core.ClickLock;
+
+/**
+ * A click lock shared by a set of {@link LockedClickListener}s and {@link AsyncLockedClickListener}s,
+ * while any of them is locked none of the others fire.
+ * <p>
+ * A group may also throttle its clicks, a click that happens within the throttle
+ * window of the last accepted click is suppressed. Click times are in the
+ * {@link SystemClock#uptimeMillis()} time base, the same as {@link android.view.MotionEvent#getEventTime()}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class ClickLockGroup extends ClickLock {
+
+    /**
+     * Instantiate a locking group.
+     */
+    public ClickLockGroup() {
+        this(true, 0);
+    }
+
+    /**
+     * Instantiate a group.
+     *
+     * @param locking        if an accepted click keeps the group locked until it is released
+     * @param throttleWindow minimum time between two accepted clicks, zero to not throttle
+     */
+    public ClickLockGroup(boolean locking, long throttleWindow) {
+        super(locking, throttleWindow);
+    }
+
+    /**
+     * Instantiate a group that never stays locked, only throttling its clicks.
+     *
+     * @param throttleWindow minimum time between two accepted clicks
+     * @return the group
+     */
+    public static ClickLockGroup throttle(long throttleWindow) {
+        return new ClickLockGroup(false, throttleWindow);
+    }
+
+    /**
+     * Try to accept a click happening now.
+     *
+     * @return the lock word to be released, or {@link #SUPPRESSED}
+     */
+    public long tryLock() {
+        return tryLock(SystemClock.uptimeMillis());
+    }
+
+    /**
+     * Count the suppressed click in the library metrics.
+     */
+    @Override
+    protected void onSuppressed() {
+        ViewMetrics.count(ViewMetrics.COUNTER_SUPPRESSED_CLICKS);
+    }
+
+}
@@ -0,0 +1,388 @@
+package com.comandulli.lib.view;
+
+import android.app.AlertDialog;
+import android.app.AlertDialog.Builder;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.content.DialogInterface.OnClickListener;
+import android.content.DialogInterface.OnDismissListener;
+import android.content.res.Resources;
+import android.os.Build;
+import android.view.View;
+import android.widget.TextView;
+
+/**
+ * Instantiate your alert dialog with a custom color.
+ * <p>
+ * The alert may be built ahead of time with {@link #prebuild()},
+ * a built alert is reused by every {@link #show()} until its buttons or view change.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.0
+ */
+public class CustomAlertDialog {
+
+    /**
+     * Id of the title divider view, resolved once per process, zero when the platform has none.
+     */
+    private static int titleDividerId;
+    /**
+     * Id of the title text view, resolved once per process, zero when the platform has none.
+     */
+    private static int alertTitleId;
+    /**
+     * If the view ids have been resolved.
+     */
+    private static boolean idsResolved;
+
+    /**
+     * Alert dialog after build has been called int he alert builder.
+     */
+    protected AlertDialog alertDialog;
+    /**
+     * Alert builder.
+     */
+    protected final Builder alertBuilder;
+    /**
+     * Android context.
+     */
+    protected final Context context;
+    /**
+     * Your alert custom color.
+     */
+    protected int customColor;
+    /**
+     * If the custom color has been applied to the built alert.
+     */
+    private boolean colored;
+    /**
+     * Listener of the alert dismissal.
+     */
+    private OnDismissListener dismissListener;
+    /**
+     * Pool this alert returns to when dismissed, if any.
+     */
+    CustomAlertDialogPool pool;
+    /**
+     * Current title.
+     */
+    private String title;
+    /**
+     * Current message.
+     */
+    private String message;
+    /**
+     * Title restored by {@link #resetState()}.
+     */
+    private String keptTitle;
+    /**
+     * Message restored by {@link #resetState()}.
+     */
+    private String keptMessage;
+    /**
+     * Dismiss listener restored by {@link #resetState()}.
+     */
+    private OnDismissListener keptDismissListener;
+    /**
+     * Forwards the dismissal of the built alert.
+     */
+    private final OnDismissListener onDismiss = new OnDismissListener() {
+        @Override
+        public void onDismiss(DialogInterface dialog) {
+            if (dismissListener != null) {
+                dismissListener.onDismiss(dialog);
+            }
+            // an alert replaced while showing must not return this one to the pool
+            if (pool != null && dialog == alertDialog) {
+                pool.recycle(CustomAlertDialog.this);
+            }
+        }
+    };
+
+    /**
+     * Instantiate a default alert.
+     *
+     * @param context android context.
+     */
+    public CustomAlertDialog(Context context) {
+        this.context = context;
+        this.alertBuilder = new Builder(context);
+    }
+
+    /**
+     * Instantiate an alert from its builder.
+     *
+     * @param context      android context
+     * @param alertBuilder the builder
+     */
+    private CustomAlertDialog(Context context, Builder alertBuilder) {
+        this.context = context;
+        this.alertBuilder = alertBuilder;
+    }
+
+    /**
+     * Instantiate an alert with a dialog theme.
+     * A theme that already carries your color is applied before inflation,
+     * so the alert is drawn with it from its first frame, without {@link #setCustomColor(int)}.
+     *
+     * @param context    android context
+     * @param themeResId the dialog theme resource
+     * @return the alert
+     */
+    public static CustomAlertDialog withTheme(Context context, int themeResId) {
+        return new CustomAlertDialog(context, new Builder(context, themeResId));
+    }
+
+    /**
+     * Instantiate alert with a message.
+     *
+     * @param context android context
+     * @param message desired message
+     */
+    public CustomAlertDialog(Context context, String message) {
+        this.context = context;
+        this.alertBuilder = new Builder(context);
+        this.alertBuilder.setMessage(message);
+        this.message = message;
+    }
+
+    /**
+     * Instantiate alert with message and title.
+     *
+     * @param context android context
+     * @param title   desired title
+     * @param message desired message
+     */
+    public CustomAlertDialog(Context context, String title, String message) {
+        this.context = context;
+        this.alertBuilder = new Builder(context);
+        this.alertBuilder.setTitle(title).setMessage(message);
+        this.title = title;
+        this.message = message;
+    }
+
+    /**
+     * Set the alert title
+     *
+     * @param title desired title
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setTitle(String title) {
+        this.title = title;
+        this.alertBuilder.setTitle(title);
+        if (alertDialog != null) {
+            alertDialog.setTitle(title);
+        }
+        return this;
+    }
+
+    /**
+     * Set the alert message
+     *
+     * @param message desired message.
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setMessage(String message) {
+        this.message = message;
+        this.alertBuilder.setMessage(message);
+        if (alertDialog != null) {
+            alertDialog.setMessage(message);
+        }
+        return this;
+    }
+
+    /**
+     * Set a positive button with a text and listener.
+     *
+     * @param text     positive button text
+     * @param listener listener for the click action
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setPositive(String text, OnClickListener listener) {
+        this.alertBuilder.setPositiveButton(text, listener);
+        this.alertDialog = null;
+        return this;
+    }
+
+    /**
+     * Set a negative button with a text and listener.
+     *
+     * @param text     negative button text
+     * @param listener listener for the click action
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setNegative(String text, OnClickListener listener) {
+        this.alertBuilder.setNegativeButton(text, listener);
+        this.alertDialog = null;
+        return this;
+    }
+
+    /**
+     * Set a netural button with a text and listener.
+     *
+     * @param text     neutral button text
+     * @param listener listener for the click action
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setNeutral(String text, OnClickListener listener) {
+        this.alertBuilder.setNeutralButton(text, listener);
+        this.alertDialog = null;
+        return this;
+    }
+
+    /**
+     * Get this custom alert's alert builder.
+     *
+     * @return
+     */
+    public Builder getAlertBuilder() {
+        return this.alertBuilder;
+    }
+
+    /**
+     * Set a custom color for this alert.
+     *
+     * @param customColor the color
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setCustomColor(int customColor) {
+        this.customColor = customColor;
+        this.colored = false;
+        return this;
+    }
+
+    /**
+     * Set a custom color from a resource for this alert.
+     *
+     * @param customColor the color resource
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setCustomColorFromResource(int colorResource) {
+        this.customColor = context.getResources().getColor(colorResource);
+        this.colored = false;
+        return this;
+    }
+
+    /**
+     * Show this alert on the screen.
+     *
+     * @return the alert dialog reference.
+     */
+    public AlertDialog show() {
+        if (alertDialog == null || alertDialog.isShowing()) {
+            build();
+        }
+        alertDialog.show();
+        if (customColor != 0 && !colored) {
+            applyCustomColor();
+        }
+        return alertDialog;
+    }
+
+    /**
+     * Apply the custom color to the title and divider of the alert.
+     */
+    private void applyCustomColor() {
+        colored = true;
+        resolveIds();
+        if (titleDividerId != 0) {
+            View divider = alertDialog.findViewById(titleDividerId);
+            if (divider != null) {
+                divider.setBackgroundColor(customColor);
+            }
+        }
+        if (alertTitleId != 0) {
+            TextView tv = (TextView) alertDialog.findViewById(alertTitleId);
+            if (tv != null) {
+                tv.setTextColor(customColor);
+            }
+        }
+    }
+
+    /**
+     * Resolve the platform view ids, only the first call looks them up.
+     */
+    private static void resolveIds() {
+        if (idsResolved) {
+            return;
+        }
+        Resources system = Resources.getSystem();
+        titleDividerId = system.getIdentifier("titleDivider", "id", "android");
+        alertTitleId = system.getIdentifier("alertTitle", "id", "android");
+        idsResolved = true;
+    }
+
+    /**
+     * Set the view for this alert.
+     *
+     * @param v the view to be set
+     */
+    public void setView(View v) {
+        this.alertBuilder.setView(v);
+        this.alertDialog = null;
+    }
+
+    /**
+     * Set a listener for when this alert is dismissed.
+     *
+     * @param listener the listener
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog setOnDismissListener(OnDismissListener listener) {
+        this.dismissListener = listener;
+        return this;
+    }
+
+    /**
+     * Build the alert and its view hierarchy ahead of time, so {@link #show()} only has to attach it.
+     * Title and message may still be changed afterwards, as long as the built alert already had them.
+     *
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialog prebuild() {
+        build();
+        return this;
+    }
+
+    /**
+     * Get the built alert dialog, if any.
+     *
+     * @return the alert dialog reference.
+     */
+    public AlertDialog getAlertDialog() {
+        return alertDialog;
+    }
+
+    /**
+     * Keep the current title, message and dismiss listener, to be restored by {@link #resetState()}.
+     */
+    void keepState() {
+        keptTitle = title;
+        keptMessage = message;
+        keptDismissListener = dismissListener;
+    }
+
+    /**
+     * Restore the title, message and dismiss listener kept by {@link #keepState()}.
+     */
+    void resetState() {
+        setTitle(keptTitle);
+        setMessage(keptMessage);
+        dismissListener = keptDismissListener;
+    }
+
+    /**
+     * Build the alert dialog from the builder.
+     */
+    private void build() {
+        this.alertDialog = this.alertBuilder.create();
+        this.alertDialog.setOnDismissListener(onDismiss);
+        this.colored = false;
+        if (customColor != 0 && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            // build the content before showing, so the first frame already has the color
+            alertDialog.create();
+            applyCustomColor();
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.comandulli.lib.view;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.MessageQueue.IdleHandler;
+import android.view.LayoutInflater;
+import android.view.View;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A small pool of prebuilt {@link CustomAlertDialog}s sharing the same structure,
+ * perfect for confirmations shown many times per session!
+ * <p>
+ * Dialogs are created by a {@link DialogFactory}, built ahead of time while the main thread
+ * is idle, and return to the pool when dismissed, so showing one only has to attach it.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class CustomAlertDialogPool {
+
+    /**
+     * Default amount of dismissed dialogs kept for reuse.
+     */
+    public static final int DEFAULT_MAX_SIZE = 2;
+    /**
+     * Background thread where custom views are inflated, shared by every pool.
+     */
+    private static ExecutorService inflater;
+    /**
+     * Android context.
+     */
+    private final Context context;
+    /**
+     * Creates the dialogs of this pool.
+     */
+    private final DialogFactory factory;
+    /**
+     * Amount of dismissed dialogs kept for reuse.
+     */
+    private final int maxSize;
+    /**
+     * Dialogs ready to be shown.
+     */
+    private final ArrayDeque<CustomAlertDialog> free = new ArrayDeque<>();
+    /**
+     * Main thread handler, where inflated views are delivered.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Instantiate a pool with the default size.
+     *
+     * @param context android context
+     * @param factory creates the dialogs of this pool
+     */
+    public CustomAlertDialogPool(Context context, DialogFactory factory) {
+        this(context, DEFAULT_MAX_SIZE, factory);
+    }
+
+    /**
+     * Instantiate a pool.
+     *
+     * @param context android context
+     * @param maxSize amount of dismissed dialogs kept for reuse
+     * @param factory creates the dialogs of this pool
+     */
+    public CustomAlertDialogPool(Context context, int maxSize, DialogFactory factory) {
+        this.context = context;
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    /**
+     * Build dialogs ahead of time, one per idle pass of the main thread, call it at screen start.
+     * Must be called from the main thread.
+     *
+     * @param count amount of dialogs to be built, up to the pool size
+     */
+    public void prewarm(final int count) {
+        Looper.myQueue().addIdleHandler(new IdleHandler() {
+            int remaining = Math.min(count, maxSize);
+
+            @Override
+            public boolean queueIdle() {
+                if (free.size() >= maxSize || remaining <= 0) {
+                    return false;
+                }
+                free.add(create());
+                remaining--;
+                return remaining > 0;
+            }
+        });
+    }
+
+    /**
+     * Obtain a dialog of this pool, a prebuilt one if available.
+     * Set its title and message and call {@link CustomAlertDialog#show()},
+     * it returns to the pool once dismissed, with the title, message and dismiss listener of the factory.
+     *
+     * @return the dialog
+     */
+    public CustomAlertDialog obtain() {
+        CustomAlertDialog dialog = free.poll();
+        if (dialog == null) {
+            dialog = create();
+        }
+        return dialog;
+    }
+
+    /**
+     * Discard every dialog kept by this pool.
+     */
+    public void clear() {
+        free.clear();
+    }
+
+    /**
+     * Amount of dialogs ready to be shown.
+     *
+     * @return the amount
+     */
+    public int size() {
+        return free.size();
+    }
+
+    /**
+     * Inflate a custom view in a background thread, to be given to {@link CustomAlertDialog#setView(View)}.
+     * The background thread uses its own clone of the inflater, the context's inflater keeps per call state.
+     * If the layout can not be inflated outside the main thread it is inflated in the main thread.
+     *
+     * @param layoutRes the layout resource
+     * @param listener  receives the view in the main thread
+     */
+    public void inflateAsync(final int layoutRes, final OnViewInflatedListener listener) {
+        final LayoutInflater layoutInflater = LayoutInflater.from(context);
+        final LayoutInflater backgroundInflater = layoutInflater.cloneInContext(context);
+        inflater().execute(new Runnable() {
+            @Override
+            public void run() {
+                View view;
+                try {
+                    view = backgroundInflater.inflate(layoutRes, null, false);
+                } catch (RuntimeException e) {
+                    view = null;
+                }
+                final View inflated = view;
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        View result = inflated;
+                        if (result == null) {
+                            result = layoutInflater.inflate(layoutRes, null, false);
+                        }
+                        listener.onViewInflated(result);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Return a dismissed dialog to the pool, its title, message and dismiss listener are reset to the ones of the factory.
+     *
+     * @param dialog the dialog
+     */
+    void recycle(CustomAlertDialog dialog) {
+        if (free.size() < maxSize && !free.contains(dialog)) {
+            dialog.resetState();
+            free.add(dialog);
+        }
+    }
+
+    /**
+     * Create and build a new dialog of this pool.
+     *
+     * @return the dialog
+     */
+    private CustomAlertDialog create() {
+        CustomAlertDialog dialog = factory.create(context);
+        dialog.pool = this;
+        dialog.keepState();
+        return dialog.prebuild();
+    }
+
+    /**
+     * The background inflation thread, started on first use.
+     *
+     * @return the executor
+     */
+    private static synchronized ExecutorService inflater() {
+        if (inflater == null) {
+            inflater = Executors.newSingleThreadExecutor();
+        }
+        return inflater;
+    }
+
+    /**
+     * Creates the dialogs of a {@link CustomAlertDialogPool}, all of them with the same structure.
+     */
+    public interface DialogFactory {
+
+        /**
+         * Create a dialog, with its buttons, view and color.
+         *
+         * @param context android context
+         * @return the dialog
+         */
+        CustomAlertDialog create(Context context);
+
+    }
+
+    /**
+     * Receives a view inflated by {@link CustomAlertDialogPool#inflateAsync(int, OnViewInflatedListener)}.
+     */
+    public interface OnViewInflatedListener {
+
+        /**
+         * Called in the main thread once the view is inflated.
+         *
+         * @param view the view
+         */
+        void onViewInflated(View view);
+
+    }
+
+}
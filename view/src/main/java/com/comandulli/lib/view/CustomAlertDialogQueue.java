@@ -0,0 +1,446 @@
+package com.comandulli.lib.view;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.content.DialogInterface.OnDismissListener;
+import android.os.SystemClock;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Shows {@link CustomAlertDialog}s one at a time, coalescing bursts of alerts,
+ * such as the errors of a batch of failed requests.
+ * <p>
+ * Identical alerts are counted instead of repeated, repeats of the alert being shown included,
+ * alerts posted within the burst window of each other are merged into a single summary alert,
+ * one line per title and message, and alerts waiting longer than the maximum age are dropped. At most {@link #getCapacity()} alerts are kept waiting,
+ * the oldest one is dropped when a new one does not fit.
+ * Alerts are never shown on a finishing activity, call {@link #release()} from its {@code onDestroy}.
+ * Must be used from the main thread.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class CustomAlertDialogQueue {
+
+    /**
+     * Default amount of distinct alerts kept waiting.
+     */
+    public static final int DEFAULT_CAPACITY = 16;
+    /**
+     * Default time within which alerts are merged.
+     */
+    public static final long DEFAULT_BURST_WINDOW = 500;
+    /**
+     * Default time after which a waiting alert is dropped.
+     */
+    public static final long DEFAULT_MAX_AGE = 60000;
+    /**
+     * Android context.
+     */
+    private final Context context;
+    /**
+     * Amount of distinct alerts kept waiting.
+     */
+    private final int capacity;
+    /**
+     * Time within which alerts are merged.
+     */
+    private long burstWindow = DEFAULT_BURST_WINDOW;
+    /**
+     * Time after which a waiting alert is dropped.
+     */
+    private long maxAge = DEFAULT_MAX_AGE;
+    /**
+     * Custom color of the alerts.
+     */
+    private int customColor;
+    /**
+     * Alerts waiting to be shown, oldest first.
+     */
+    private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+    /**
+     * Alert being shown, if any.
+     */
+    private CustomAlertDialog showing;
+    /**
+     * Alerts merged into the alert being shown.
+     */
+    private final List<Entry> shown = new ArrayList<>();
+    /**
+     * If the next alert has been scheduled.
+     */
+    private boolean scheduled;
+    /**
+     * Number of alerts dropped, either stale or over capacity.
+     */
+    private int droppedCount;
+    /**
+     * Scheduler where the next alert is posted.
+     */
+    private final MainScheduler scheduler = MainScheduler.getInstance();
+    /**
+     * Shows the next alert.
+     */
+    private final Runnable showNext = new Runnable() {
+        @Override
+        public void run() {
+            scheduled = false;
+            showNext();
+        }
+    };
+    /**
+     * Moves on once the alert being shown is dismissed.
+     */
+    private final OnDismissListener onDismiss = new OnDismissListener() {
+        @Override
+        public void onDismiss(DialogInterface dialog) {
+            showing = null;
+            shown.clear();
+            schedule();
+        }
+    };
+
+    /**
+     * Instantiate a queue with the default capacity.
+     *
+     * @param context android context
+     */
+    public CustomAlertDialogQueue(Context context) {
+        this(context, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Instantiate a queue.
+     *
+     * @param context  android context
+     * @param capacity amount of distinct alerts kept waiting
+     */
+    public CustomAlertDialogQueue(Context context, int capacity) {
+        this.context = context;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Post an alert, it is shown once the previous ones are dismissed.
+     *
+     * @param title   alert title
+     * @param message alert message
+     */
+    public void post(String title, String message) {
+        long now = SystemClock.uptimeMillis();
+        dropStale(now);
+        for (Entry entry : shown) {
+            if (entry.matches(title, message)) {
+                entry.count++;
+                entry.lastTime = now;
+                showing.setTitle(titleOf(shown));
+                showing.setMessage(messageOf(shown));
+                return;
+            }
+        }
+        for (Entry entry : entries) {
+            if (entry.matches(title, message)) {
+                entry.count++;
+                entry.lastTime = now;
+                return;
+            }
+        }
+        if (entries.size() >= capacity) {
+            droppedCount += entries.poll().count;
+        }
+        entries.add(new Entry(title, message, now));
+        schedule();
+    }
+
+    /**
+     * Drop every waiting alert, the one being shown stays.
+     */
+    public void clear() {
+        entries.clear();
+        scheduler.cancel(this);
+        scheduled = false;
+    }
+
+    /**
+     * Drop every waiting alert and dismiss the one being shown,
+     * to be called when the activity of this queue is destroyed.
+     */
+    public void release() {
+        clear();
+        CustomAlertDialog dialog = showing;
+        showing = null;
+        shown.clear();
+        if (dialog != null && dialog.getAlertDialog() != null) {
+            dialog.getAlertDialog().dismiss();
+        }
+    }
+
+    /**
+     * Amount of distinct alerts waiting.
+     *
+     * @return the amount
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Get the amount of distinct alerts kept waiting.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of alerts dropped, either stale or over capacity.
+     *
+     * @return the count
+     */
+    public int getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Set the time within which alerts are merged into a summary.
+     *
+     * @param burstWindow the window in milliseconds
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialogQueue setBurstWindow(long burstWindow) {
+        this.burstWindow = burstWindow;
+        return this;
+    }
+
+    /**
+     * Set the time after which a waiting alert is dropped.
+     *
+     * @param maxAge the age in milliseconds
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialogQueue setMaxAge(long maxAge) {
+        this.maxAge = maxAge;
+        return this;
+    }
+
+    /**
+     * Set a custom color for the alerts.
+     *
+     * @param customColor the color
+     * @return for you to chain methods.
+     */
+    public CustomAlertDialogQueue setCustomColor(int customColor) {
+        this.customColor = customColor;
+        return this;
+    }
+
+    /**
+     * Schedule the next alert at the end of the burst window of the oldest waiting alert.
+     */
+    private void schedule() {
+        if (scheduled || showing != null || entries.isEmpty()) {
+            return;
+        }
+        scheduled = true;
+        scheduler.postAtTime(this, showNext, entries.peek().firstTime + burstWindow);
+    }
+
+    /**
+     * Show the oldest waiting alert, merged with the alerts of its burst.
+     */
+    private void showNext() {
+        if (showing != null) {
+            return;
+        }
+        if (context instanceof Activity && ((Activity) context).isFinishing()) {
+            // its window is going away, the alerts can not be shown anymore
+            entries.clear();
+            return;
+        }
+        dropStale(SystemClock.uptimeMillis());
+        Entry first = entries.poll();
+        if (first == null) {
+            return;
+        }
+        shown.add(first);
+        long burstEnd = first.lastTime + burstWindow;
+        Entry next = entries.peek();
+        while (next != null && next.firstTime <= burstEnd) {
+            entries.poll();
+            shown.add(next);
+            burstEnd = Math.max(burstEnd, next.lastTime + burstWindow);
+            next = entries.peek();
+        }
+        showing = new CustomAlertDialog(context, titleOf(shown), messageOf(shown))
+                .setPositive(context.getString(android.R.string.ok), null)
+                .setOnDismissListener(onDismiss);
+        if (customColor != 0) {
+            showing.setCustomColor(customColor);
+        }
+        showing.show();
+    }
+
+    /**
+     * Title of an alert, the summary title when several alerts are merged.
+     *
+     * @param merged the merged alerts
+     * @return the title
+     */
+    private String titleOf(List<Entry> merged) {
+        if (merged.size() == 1) {
+            return merged.get(0).title;
+        }
+        int total = 0;
+        for (Entry entry : merged) {
+            total += entry.count;
+        }
+        return context.getResources().getQuantityString(R.plurals.dialog_queue_summary_title, total, total);
+    }
+
+    /**
+     * Message of an alert, one line per alert when several alerts are merged.
+     *
+     * @param merged the merged alerts
+     * @return the message
+     */
+    private String messageOf(List<Entry> merged) {
+        if (merged.size() == 1) {
+            return merged.get(0).format(context);
+        }
+        StringBuilder summary = new StringBuilder();
+        for (Entry entry : merged) {
+            if (summary.length() > 0) {
+                summary.append('\n');
+            }
+            summary.append(entry.line(context));
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Drop the alerts waiting longer than the maximum age.
+     *
+     * @param now current time
+     */
+    private void dropStale(long now) {
+        Iterator<Entry> iterator = entries.iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (now - entry.lastTime > maxAge) {
+                droppedCount += entry.count;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * A distinct alert waiting to be shown.
+     */
+    private static class Entry {
+
+        /**
+         * Alert title.
+         */
+        final String title;
+        /**
+         * Alert message.
+         */
+        final String message;
+        /**
+         * Time the alert was first posted.
+         */
+        final long firstTime;
+        /**
+         * Time the alert was last posted.
+         */
+        long lastTime;
+        /**
+         * Times the alert was posted.
+         */
+        int count = 1;
+
+        /**
+         * Instantiate an entry.
+         *
+         * @param title   alert title
+         * @param message alert message
+         * @param time    time of the post
+         */
+        Entry(String title, String message, long time) {
+            this.title = title;
+            this.message = message;
+            this.firstTime = time;
+            this.lastTime = time;
+        }
+
+        /**
+         * If this entry is the given alert.
+         *
+         * @param title   alert title
+         * @param message alert message
+         * @return if it matches
+         */
+        boolean matches(String title, String message) {
+            return same(title, this.title) && same(message, this.message);
+        }
+
+        /**
+         * The message of this entry, with its count when repeated.
+         *
+         * @param context android context
+         * @return the message
+         */
+        String format(Context context) {
+            if (count == 1) {
+                return message;
+            }
+            return repeated(context, message == null ? "" : message);
+        }
+
+        /**
+         * Summary line of this entry, its title and message, with its count when repeated.
+         *
+         * @param context android context
+         * @return the line
+         */
+        String line(Context context) {
+            String line;
+            if (title == null || message == null) {
+                line = title != null ? title : message != null ? message : "";
+            } else {
+                line = context.getString(R.string.dialog_queue_summary_line, title, message);
+            }
+            return count == 1 ? line : repeated(context, line);
+        }
+
+        /**
+         * A text with the count of this entry.
+         *
+         * @param context android context
+         * @param text    the text
+         * @return the text with the count
+         */
+        private String repeated(Context context, String text) {
+            return context.getString(R.string.dialog_queue_repeated, text, count).trim();
+        }
+
+        /**
+         * Null safe string comparison.
+         *
+         * @param a a string
+         * @param b another string
+         * @return if they are equal
+         */
+        private static boolean same(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+
+    }
+
+}
@@ -0,0 +1,297 @@
+package com.comandulli.lib.view;
+
+import android.content.Context;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.widget.ImageView;
+
+import com.comandulli.lib.view.core.Scheduler;
+import com.comandulli.lib.view.core.StepSequence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Support class for controlling fade animations in ImageView, perfect for splashscreens!
+ * <p>
+ * The animation is cancelled once any of its views is detached from its window,
+ * so a paused animation does not outlive its activity.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.0
+ */
+public class FadeAnim {
+
+    /**
+     * Android context.
+     */
+    private final Context context;
+    /**
+     * Resource of the fade in animation.
+     */
+    private final int fadeInRes;
+    /**
+     * Resource of the fade out animation.
+     */
+    private final int fadeOutRes;
+    /**
+     * List of views to be used by fade procedures.
+     */
+    private final List<ImageView> views = new ArrayList<>();
+    /**
+     * Optional frame timing instrumentation, reported per procedure.
+     */
+    private FrameMonitor frameMonitor;
+    /**
+     * Runs the procedures of this animation.
+     */
+    private final StepSequence sequence;
+    /**
+     * Cancels this animation when one of its views is detached.
+     */
+    private final View.OnAttachStateChangeListener detachListener = new View.OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View view) {
+            // stub
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View view) {
+            cancel();
+        }
+    };
+
+    /**
+     * Instantiate a fade animation cycle.
+     *
+     * @param context    android context
+     * @param fadeInRes  resource for the fade in animation
+     * @param fadeOutRes resource for the fade out animation
+     */
+    public FadeAnim(Context context, int fadeInRes, int fadeOutRes) {
+        this(context, fadeInRes, fadeOutRes, MainScheduler.getInstance());
+    }
+
+    /**
+     * Instantiate a fade animation cycle with its own scheduler.
+     *
+     * @param context    android context
+     * @param fadeInRes  resource for the fade in animation
+     * @param fadeOutRes resource for the fade out animation
+     * @param scheduler  scheduler where the procedures are posted
+     */
+    public FadeAnim(Context context, int fadeInRes, int fadeOutRes, Scheduler scheduler) {
+        this.context = context;
+        this.fadeInRes = fadeInRes;
+        this.fadeOutRes = fadeOutRes;
+        this.sequence = new StepSequence(scheduler) {
+            @Override
+            protected void onDrift(long drift) {
+                ViewMetrics.record(ViewMetrics.HISTOGRAM_FADE_DRIFT_MILLIS, drift);
+            }
+
+            @Override
+            protected void onStepDone(int index) {
+                if (frameMonitor != null) {
+                    frameMonitor.report(index);
+                }
+            }
+
+            @Override
+            protected void onFinish() {
+                stopFrames();
+            }
+        };
+    }
+
+    /**
+     * Chain a Fade In procedure.
+     *
+     * @param imageView      target image view
+     * @param timeout        duration of the procedure
+     * @param waitForTrigger if the animation should wait for a {@link FadeAnim#trigger()} call after finishing this procedure
+     * @return this object for inline invokes
+     */
+    public FadeAnim chainFadeIn(final ImageView imageView, final long timeout, final boolean waitForTrigger) {
+        addView(imageView);
+        final Animation animation = AnimationUtils.loadAnimation(context, fadeInRes);
+        sequence.add(new StepSequence.Step() {
+            @Override
+            public void start() {
+                imageView.setVisibility(View.VISIBLE);
+                imageView.startAnimation(animation);
+            }
+
+            @Override
+            public void end() {
+                // stub
+            }
+        }, timeout, waitForTrigger);
+        return this;
+    }
+
+    /**
+     * Chain a Fade Out procedure.
+     *
+     * @param imageView      target image view
+     * @param timeout        duration of the procedure
+     * @param waitForTrigger if the animation should wait for a {@link FadeAnim#trigger()} call after fininshing this procedure
+     * @return this object for inline invokes
+     */
+    public FadeAnim chainFadeOut(final ImageView imageView, final long timeout, final boolean waitForTrigger) {
+        addView(imageView);
+        final Animation animation = AnimationUtils.loadAnimation(context, fadeOutRes);
+        sequence.add(new StepSequence.Step() {
+            @Override
+            public void start() {
+                imageView.startAnimation(animation);
+            }
+
+            @Override
+            public void end() {
+                imageView.setVisibility(View.GONE);
+            }
+        }, timeout, waitForTrigger);
+        return this;
+    }
+
+    /**
+     * Tell the chain to wait for a specific time before moving on to the next procedure.
+     *
+     * @param timeout duration of the wait
+     * @return this object for inline invokes
+     */
+    public FadeAnim maintainStatic(final long timeout) {
+        sequence.add(null, timeout, false);
+        return this;
+    }
+
+    /**
+     * Close a chain of animations with a runnable procedure,
+     * the runnable will be executed after all previous procedures are done.
+     *
+     * @param runnable the code to be run
+     * @return this object for inline invokes
+     */
+    public FadeAnim closeChain(final Runnable runnable) {
+        sequence.add(new StepSequence.Step() {
+            @Override
+            public void start() {
+                // stub
+            }
+
+            @Override
+            public void end() {
+                runnable.run();
+            }
+        }, 500, false);
+        return this;
+    }
+
+    /**
+     * Tell this animation to start its first procedure.
+     */
+    public void animate() {
+        for (ImageView view : views) {
+            view.setVisibility(View.GONE);
+        }
+        if (frameMonitor != null) {
+            frameMonitor.start();
+        }
+        sequence.start(1000);
+    }
+
+    /**
+     * Cancel the procedures of this animation, nothing else runs until {@link #animate()} is called again.
+     */
+    public void cancel() {
+        sequence.cancel();
+        stopFrames();
+    }
+
+    /**
+     * Pause this animation, the current procedure keeps the time it had left until {@link #resume()}.
+     */
+    public void pause() {
+        sequence.pause();
+    }
+
+    /**
+     * Resume a paused animation, the rest of the chain is shifted by the time it was paused.
+     */
+    public void resume() {
+        sequence.resume();
+    }
+
+    /**
+     * Tell this animation that trigger has been called.
+     */
+    public void trigger() {
+        sequence.trigger();
+    }
+
+    /**
+     *  The animation should wait for a {@link FadeAnim#trigger()} call when this procedure is run.
+     * @param timeout duration of the procedure
+     * @return this object for inline invokes
+     */
+    public FadeAnim waitForTrigger(final long timeout) {
+        sequence.add(null, timeout, true);
+        return this;
+    }
+
+    /**
+     * Difference between the measured and the planned time of the last procedure.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getScheduleDrift() {
+        return sequence.getDrift();
+    }
+
+    /**
+     * Largest difference between the measured and the planned time of a procedure since {@link #animate()}.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getMaxScheduleDrift() {
+        return sequence.getMaxDrift();
+    }
+
+    /**
+     * Enable frame timing instrumentation, the counters are reported once per procedure.
+     *
+     * @param listener receives the counters, null disables the instrumentation
+     * @return this object for inline invokes
+     */
+    public FadeAnim setFrameStatsListener(FrameMonitor.OnFrameStatsListener listener) {
+        if (frameMonitor != null) {
+            frameMonitor.stop();
+        }
+        frameMonitor = listener == null ? null : new FrameMonitor(context, listener);
+        return this;
+    }
+
+    /**
+     * Keep a view used by the fade procedures, this animation is cancelled when it is detached.
+     *
+     * @param imageView the view
+     */
+    private void addView(ImageView imageView) {
+        if (!views.contains(imageView)) {
+            views.add(imageView);
+            imageView.addOnAttachStateChangeListener(detachListener);
+        }
+    }
+
+    /**
+     * Stop the frame timing instrumentation at the end of the chain.
+     */
+    private void stopFrames() {
+        if (frameMonitor != null) {
+            frameMonitor.stop();
+        }
+    }
+
+}
@@ -0,0 +1,219 @@
+package com.comandulli.lib.view;
+
+import android.content.Context;
+import android.view.Choreographer;
+import android.view.Choreographer.FrameCallback;
+import android.view.WindowManager;
+
+/**
+ * Opt-in frame timing instrumentation, counts rendered frames, dropped frames
+ * and the worst frame time through {@link Choreographer} callbacks.
+ * <p>
+ * Counters are accumulated in windows, a window is closed either manually
+ * with {@link #report(int)} or automatically after {@link #setReportInterval(long)}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class FrameMonitor implements FrameCallback {
+
+    /**
+     * Default frame interval, 60 frames per second.
+     */
+    public static final long DEFAULT_FRAME_INTERVAL_NANOS = 1000000000L / 60;
+    /**
+     * A frame is considered late when it takes longer than this many frame intervals.
+     */
+    private static final float JANK_THRESHOLD = 1.5f;
+    /**
+     * Expected duration of a single frame.
+     */
+    private final long frameIntervalNanos;
+    /**
+     * Listener that receives the collected counters.
+     */
+    private final OnFrameStatsListener listener;
+    /**
+     * Automatic report interval, zero for manual reports only.
+     */
+    private long reportIntervalNanos;
+    /**
+     * If frame callbacks are being received.
+     */
+    private boolean running;
+    /**
+     * Time of the last frame received.
+     */
+    private long lastFrameNanos;
+    /**
+     * Time of the first frame of the current window.
+     */
+    private long windowStartNanos;
+    /**
+     * Frames rendered in the current window.
+     */
+    private int renderedFrames;
+    /**
+     * Frames dropped in the current window.
+     */
+    private int droppedFrames;
+    /**
+     * Worst frame time in the current window.
+     */
+    private long worstFrameNanos;
+    /**
+     * Index of the automatic report window.
+     */
+    private int window;
+
+    /**
+     * Instantiate a monitor using the refresh rate of the default display.
+     *
+     * @param context  android context
+     * @param listener receives the collected counters
+     */
+    public FrameMonitor(Context context, OnFrameStatsListener listener) {
+        this(frameIntervalOf(context), listener);
+    }
+
+    /**
+     * Instantiate a monitor with a known frame interval.
+     *
+     * @param frameIntervalNanos expected duration of a frame
+     * @param listener           receives the collected counters
+     */
+    public FrameMonitor(long frameIntervalNanos, OnFrameStatsListener listener) {
+        this.frameIntervalNanos = frameIntervalNanos;
+        this.listener = listener;
+    }
+
+    /**
+     * Start receiving frame callbacks, a new window is opened.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastFrameNanos = 0;
+        window = 0;
+        resetWindow();
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Stop receiving frame callbacks, pending counters are discarded.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    /**
+     * Deliver the counters of the current window and open a new one.
+     *
+     * @param step index of the step the window belongs to
+     */
+    public void report(int step) {
+        if (!running) {
+            return;
+        }
+        long windowNanos = lastFrameNanos - windowStartNanos;
+        listener.onFrameStats(step, renderedFrames, droppedFrames, worstFrameNanos, windowNanos < 0 ? 0 : windowNanos);
+        resetWindow();
+    }
+
+    /**
+     * Set the interval at which windows are reported automatically.
+     *
+     * @param reportIntervalMillis the interval, zero for manual reports only
+     */
+    public void setReportInterval(long reportIntervalMillis) {
+        this.reportIntervalNanos = reportIntervalMillis * 1000000L;
+    }
+
+    /**
+     * If this monitor is receiving frame callbacks.
+     *
+     * @return if it is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Implementation of the frame callback, accumulating the counters.
+     *
+     * @param frameTimeNanos {@link #doFrame(long)}
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) {
+            return;
+        }
+        if (lastFrameNanos != 0) {
+            long frameNanos = frameTimeNanos - lastFrameNanos;
+            renderedFrames++;
+            if (frameNanos > worstFrameNanos) {
+                worstFrameNanos = frameNanos;
+            }
+            if (frameNanos > frameIntervalNanos * JANK_THRESHOLD) {
+                droppedFrames += Math.round((float) frameNanos / frameIntervalNanos) - 1;
+            }
+        } else {
+            windowStartNanos = frameTimeNanos;
+        }
+        lastFrameNanos = frameTimeNanos;
+        if (reportIntervalNanos > 0 && frameTimeNanos - windowStartNanos >= reportIntervalNanos) {
+            report(window++);
+        }
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Clear the counters of the current window.
+     */
+    private void resetWindow() {
+        windowStartNanos = lastFrameNanos;
+        renderedFrames = 0;
+        droppedFrames = 0;
+        worstFrameNanos = 0;
+    }
+
+    /**
+     * Frame interval of the default display.
+     *
+     * @param context android context
+     * @return the interval in nanoseconds
+     */
+    private static long frameIntervalOf(Context context) {
+        WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
+        float refreshRate = windowManager.getDefaultDisplay().getRefreshRate();
+        if (refreshRate < 1) {
+            return DEFAULT_FRAME_INTERVAL_NANOS;
+        }
+        return (long) (1000000000L / refreshRate);
+    }
+
+    /**
+     * Receives the frame counters collected by a {@link FrameMonitor}.
+     */
+    public interface OnFrameStatsListener {
+
+        /**
+         * Called when a window of frames is closed.
+         *
+         * @param step            index of the step or of the report interval
+         * @param renderedFrames  frames rendered in the window
+         * @param droppedFrames   frames dropped in the window
+         * @param worstFrameNanos longest frame time in the window
+         * @param windowNanos     duration of the window
+         */
+        void onFrameStats(int step, int renderedFrames, int droppedFrames, long worstFrameNanos, long windowNanos);
+
+    }
+
+}
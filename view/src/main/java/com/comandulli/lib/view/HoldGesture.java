@@ -0,0 +1,106 @@
+package com.comandulli.lib.view;
+
+import android.os.SystemClock;
+import android.view.Choreographer;
+import android.view.Choreographer.FrameCallback;
+import android.view.MotionEvent;
+
+import com.comandulli.lib.view.core.HoldTracker;
+
+/**
+ * Hold gesture state machine, measures how long a pointer is held down
+ * from the event times of the {@link MotionEvent}s instead of animation callbacks.
+ * <p>
+ * While holding, completion is checked against the frame clock, so neither
+ * a busy main thread nor the animator duration scale change the hold time.
+ * Times are in the {@link SystemClock#uptimeMillis()} time base.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class HoldGesture extends HoldTracker implements FrameCallback {
+
+    /**
+     * Instantiate a hold gesture.
+     *
+     * @param holdDuration time the pointer has to be held down
+     * @param listener     listener of the gesture
+     */
+    public HoldGesture(long holdDuration, OnHoldListener listener) {
+        super(holdDuration, listener);
+    }
+
+    /**
+     * Feed a touch event to the state machine.
+     * Only the first pointer is tracked, further pointers are ignored.
+     *
+     * @param event the touch event
+     */
+    public void onTouchEvent(MotionEvent event) {
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                down(event.getDownTime(), event.getPointerId(0));
+                break;
+            case MotionEvent.ACTION_POINTER_UP:
+                pointerUp(event.getPointerId(event.getActionIndex()), event.getEventTime());
+                break;
+            case MotionEvent.ACTION_UP:
+                up(event.getEventTime());
+                break;
+            case MotionEvent.ACTION_CANCEL:
+                cancel();
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Implementation of the frame callback, checking the deadline against the frame time.
+     *
+     * @param frameTimeNanos {@link #doFrame(long)}
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (frame(frameTimeNanos / 1000000L)) {
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * {@link HoldTracker#now()}
+     *
+     * @return {@link SystemClock#uptimeMillis()}
+     */
+    @Override
+    protected long now() {
+        return SystemClock.uptimeMillis();
+    }
+
+    /**
+     * {@link HoldTracker#requestFrame()}
+     */
+    @Override
+    protected void requestFrame() {
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * {@link HoldTracker#cancelFrame()}
+     */
+    @Override
+    protected void cancelFrame() {
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    /**
+     * Record the latency in the library metrics.
+     *
+     * @param latencyMillis {@link HoldTracker#onComplete(long)}
+     */
+    @Override
+    protected void onComplete(long latencyMillis) {
+        ViewMetrics.record(ViewMetrics.HISTOGRAM_HOLD_LATENCY_MILLIS, latencyMillis);
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.comandulli.lib.view;
+
+import android.annotation.SuppressLint;
+import android.view.Choreographer;
+import android.view.Choreographer.FrameCallback;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.View.OnAttachStateChangeListener;
+import android.view.View.OnTouchListener;
+import android.widget.ProgressBar;
+
+/**
+ * Coordinates the progress buttons of a whole container, such as the rows of a list.
+ * <p>
+ * A single touch listener, hold gesture and frame driver are shared by every button,
+ * each button only keeps a tag pointing to its progress bar. Only one button can be
+ * held at a time, and the progress bar is released as soon as the hold finishes,
+ * the button is unbound or it is detached from the window.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class HoldProgressCoordinator implements OnTouchListener, FrameCallback {
+
+    /**
+     * Listener of the hold buttons.
+     */
+    private final OnHoldProgressListener listener;
+    /**
+     * State machine of the hold gesture, shared by every button.
+     */
+    private final HoldGesture holdGesture;
+    /**
+     * Button being held.
+     */
+    private View activeButton;
+    /**
+     * Progress bar of the button being held.
+     */
+    private ProgressBar activeBar;
+    /**
+     * Cancels the hold when the button being held leaves the window.
+     */
+    private final OnAttachStateChangeListener detachListener = new OnAttachStateChangeListener() {
+        @Override
+        public void onViewAttachedToWindow(View v) {
+        }
+
+        @Override
+        public void onViewDetachedFromWindow(View v) {
+            if (v == activeButton) {
+                holdGesture.cancel();
+            }
+        }
+    };
+
+    /**
+     * Instantiate a coordinator.
+     *
+     * @param milisec  duration of the hold
+     * @param listener listener of the hold buttons
+     */
+    public HoldProgressCoordinator(int milisec, OnHoldProgressListener listener) {
+        this.listener = listener;
+        this.holdGesture = new HoldGesture(milisec, new HoldGesture.OnHoldListener() {
+            @Override
+            public void onHoldStart() {
+                Choreographer.getInstance().postFrameCallback(HoldProgressCoordinator.this);
+                HoldProgressCoordinator.this.listener.onStartProgress(activeButton);
+            }
+
+            @Override
+            public void onHoldComplete(long latencyMillis) {
+                View button = release();
+                HoldProgressCoordinator.this.listener.onEndProgress(button);
+            }
+
+            @Override
+            public void onHoldCancel() {
+                View button = release();
+                HoldProgressCoordinator.this.listener.onCancelProgress(button);
+            }
+        });
+    }
+
+    /**
+     * Bind a button to its progress bar, call it whenever a row is bound.
+     *
+     * @param button      the button to be held
+     * @param progressBar progress bar of the button
+     */
+    public void bind(View button, ProgressBar progressBar) {
+        if (button == activeButton && progressBar != activeBar) {
+            holdGesture.cancel();
+        }
+        button.setTag(R.id.hold_progress_bar, progressBar);
+        button.setOnTouchListener(this);
+    }
+
+    /**
+     * Unbind a button, call it whenever a row is recycled.
+     *
+     * @param button the button
+     */
+    public void unbind(View button) {
+        if (button == activeButton) {
+            holdGesture.cancel();
+        }
+        button.setTag(R.id.hold_progress_bar, null);
+        button.setOnTouchListener(null);
+    }
+
+    /**
+     * Cancel the current hold, if any.
+     */
+    public void cancel() {
+        holdGesture.cancel();
+    }
+
+    /**
+     * Implementation of the OnTouch, routing the events of the held button to the shared gesture.
+     *
+     * @param v     {@link #onTouch(View, MotionEvent)}
+     * @param event {@link #onTouch(View, MotionEvent)}
+     * @return {@link #onTouch(View, MotionEvent)}
+     */
+    @SuppressLint("ClickableViewAccessibility")
+    @Override
+    public boolean onTouch(View v, MotionEvent event) {
+        if (event.getActionMasked() == MotionEvent.ACTION_DOWN) {
+            if (activeButton != null) {
+                holdGesture.cancel();
+            }
+            ProgressBar progressBar = (ProgressBar) v.getTag(R.id.hold_progress_bar);
+            if (progressBar == null) {
+                return false;
+            }
+            activeButton = v;
+            activeBar = progressBar;
+            v.addOnAttachStateChangeListener(detachListener);
+        } else if (v != activeButton) {
+            return false;
+        }
+        holdGesture.onTouchEvent(event);
+        return false;
+    }
+
+    /**
+     * Implementation of the frame callback, drives the progress bar of the held button.
+     *
+     * @param frameTimeNanos {@link #doFrame(long)}
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (activeBar == null || !holdGesture.isHolding()) {
+            return;
+        }
+        activeBar.setProgress(holdGesture.getProgress(frameTimeNanos / 1000000L, activeBar.getMax()));
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Time between the planned end of the last hold and its {@link OnHoldProgressListener#onEndProgress(View)} call.
+     *
+     * @return the latency in milliseconds
+     */
+    public long getLastHoldLatency() {
+        return holdGesture.getLastLatency();
+    }
+
+    /**
+     * Drop the references to the held button and its progress bar.
+     *
+     * @return the button that was being held
+     */
+    private View release() {
+        Choreographer.getInstance().removeFrameCallback(this);
+        View button = activeButton;
+        if (activeBar != null) {
+            activeBar.setProgress(0);
+        }
+        if (button != null) {
+            button.removeOnAttachStateChangeListener(detachListener);
+        }
+        activeButton = null;
+        activeBar = null;
+        return button;
+    }
+
+    /**
+     * Listener of the buttons of a {@link HoldProgressCoordinator}.
+     */
+    public interface OnHoldProgressListener {
+
+        /**
+         * A button started being held.
+         *
+         * @param button the button
+         */
+        void onStartProgress(View button);
+
+        /**
+         * A button has been held for the whole duration.
+         *
+         * @param button the button
+         */
+        void onEndProgress(View button);
+
+        /**
+         * A button has been released, unbound or detached before the duration.
+         *
+         * @param button the button
+         */
+        void onCancelProgress(View button);
+
+    }
+
+}
@@ -5,6 +5,8 @@ import android.view.View.OnClickListener;
 
 /**
  * Prevents monkeys from breaking your application's buttons.
+ * <p>
+ * Listeners sharing a {@link ClickLockGroup} lock each other.
  *
  * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
  * @since 1.0
@@ -12,9 +14,25 @@ import android.view.View.OnClickListener;
 public abstract class LockedClickListener implements OnClickListener {
 
     /**
-     * If this listener's button has already been clicked.
+     * Lock of this listener, possibly shared with other listeners.
      */
-    private boolean hasBeenClicked;
+    private final ClickLockGroup group;
+
+    /**
+     * Instantiate a listener with its own lock.
+     */
+    public LockedClickListener() {
+        this(new ClickLockGroup());
+    }
+
+    /**
+     * Instantiate a listener within a lock group.
+     *
+     * @param group the lock group
+     */
+    public LockedClickListener(ClickLockGroup group) {
+        this.group = group;
+    }
 
     /**
      * Implementation of the {@link #onClick(View)} method, preventing from any further
@@ -24,17 +42,26 @@ public abstract class LockedClickListener implements OnClickListener {
      */
     @Override
     public void onClick(View view) {
-        if (!hasBeenClicked) {
-            hasBeenClicked = true;
+        if (group.tryLock() != ClickLockGroup.SUPPRESSED) {
             lockedOnClick(view);
         }
     }
 
     /**
-     * Unlock this listener, allowing it to fire again.
+     * Unlock this listener, and its group, allowing it to fire again.
+     * Safe to be called from any thread.
      */
     public void unlock() {
-        hasBeenClicked = false;
+        group.unlock();
+    }
+
+    /**
+     * Get the lock group of this listener.
+     *
+     * @return the group
+     */
+    public ClickLockGroup getGroup() {
+        return group;
     }
 
     /**
@@ -0,0 +1,341 @@
+package com.comandulli.lib.view;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import com.comandulli.lib.view.core.Scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Library wide scheduler of delayed work on the main thread.
+ * <p>
+ * Every task belongs to an owner, usually the object that posted it, so all the tasks of an owner
+ * can be cancelled, paused and resumed at once. Tasks are kept in pooled nodes, posting a
+ * {@link Runnable} that is reused by its owner does not allocate.
+ * The scheduler lives as long as the process, so does every task it holds, paused ones included,
+ * an owner must {@link #cancel(Object)} its tasks when it is torn down, such as when its views are detached.
+ * Must be used from the main thread.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public final class MainScheduler implements Scheduler {
+
+    /**
+     * Amount of task nodes allocated up front.
+     */
+    private static final int INITIAL_POOL_SIZE = 16;
+    /**
+     * The scheduler instance.
+     */
+    private static MainScheduler instance;
+    /**
+     * Main thread handler.
+     */
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    /**
+     * Scheduled tasks, paused ones included.
+     */
+    private Task scheduled;
+    /**
+     * Free task nodes.
+     */
+    private Task pool;
+    /**
+     * Owners whose tasks are paused.
+     */
+    private final List<Object> pausedOwners = new ArrayList<>();
+    /**
+     * Amount of scheduled tasks, paused ones included.
+     */
+    private int pendingCount;
+    /**
+     * Amount of free task nodes.
+     */
+    private int pooledCount;
+
+    /**
+     * Instantiate the scheduler, allocating its initial nodes.
+     */
+    private MainScheduler() {
+        for (int i = 0; i < INITIAL_POOL_SIZE; i++) {
+            recycle(new Task());
+        }
+    }
+
+    /**
+     * Get the scheduler.
+     *
+     * @return the scheduler
+     */
+    public static MainScheduler getInstance() {
+        if (instance == null) {
+            instance = new MainScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Current time of the main thread clock.
+     *
+     * @return the time, in {@link SystemClock#uptimeMillis()}
+     */
+    @Override
+    public long now() {
+        return SystemClock.uptimeMillis();
+    }
+
+    /**
+     * Run a task after a delay.
+     *
+     * @param owner    owner of the task
+     * @param runnable the task
+     * @param delay    the delay in milliseconds
+     */
+    public void postDelayed(Object owner, Runnable runnable, long delay) {
+        postAtTime(owner, runnable, SystemClock.uptimeMillis() + delay);
+    }
+
+    /**
+     * Run a task at an absolute time.
+     *
+     * @param owner        owner of the task
+     * @param runnable     the task
+     * @param uptimeMillis the time, in {@link SystemClock#uptimeMillis()}
+     */
+    @Override
+    public void postAtTime(Object owner, Runnable runnable, long uptimeMillis) {
+        Task task = obtain();
+        task.owner = owner;
+        task.runnable = runnable;
+        task.deadline = uptimeMillis;
+        task.next = scheduled;
+        if (scheduled != null) {
+            scheduled.previous = task;
+        }
+        scheduled = task;
+        pendingCount++;
+        if (pausedOwners.contains(owner)) {
+            task.remaining = uptimeMillis - SystemClock.uptimeMillis();
+            task.paused = true;
+        } else {
+            handler.postAtTime(task, uptimeMillis);
+        }
+    }
+
+    /**
+     * Cancel every task of an owner.
+     *
+     * @param owner the owner
+     */
+    @Override
+    public void cancel(Object owner) {
+        cancel(owner, null);
+    }
+
+    /**
+     * Cancel the tasks of an owner that run a given runnable.
+     *
+     * @param owner    the owner
+     * @param runnable the runnable, null for all of them
+     */
+    public void cancel(Object owner, Runnable runnable) {
+        Task task = scheduled;
+        while (task != null) {
+            Task next = task.next;
+            if (task.owner == owner && (runnable == null || task.runnable == runnable)) {
+                handler.removeCallbacks(task);
+                unlink(task);
+                recycle(task);
+            }
+            task = next;
+        }
+    }
+
+    /**
+     * Pause every task of an owner, the time left is kept until {@link #resume(Object)}.
+     * Tasks posted while paused wait for the resume as well.
+     *
+     * @param owner the owner
+     */
+    @Override
+    public void pause(Object owner) {
+        if (pausedOwners.contains(owner)) {
+            return;
+        }
+        pausedOwners.add(owner);
+        long now = SystemClock.uptimeMillis();
+        for (Task task = scheduled; task != null; task = task.next) {
+            if (task.owner == owner && !task.paused) {
+                handler.removeCallbacks(task);
+                task.remaining = task.deadline - now;
+                task.paused = true;
+            }
+        }
+    }
+
+    /**
+     * Resume the paused tasks of an owner, each one runs after the time it had left.
+     *
+     * @param owner the owner
+     */
+    @Override
+    public void resume(Object owner) {
+        if (!pausedOwners.remove(owner)) {
+            return;
+        }
+        long now = SystemClock.uptimeMillis();
+        for (Task task = scheduled; task != null; task = task.next) {
+            if (task.owner == owner && task.paused) {
+                task.paused = false;
+                task.deadline = now + Math.max(0, task.remaining);
+                handler.postAtTime(task, task.deadline);
+            }
+        }
+    }
+
+    /**
+     * If the tasks of an owner are paused.
+     *
+     * @param owner the owner
+     * @return if it is paused
+     */
+    @Override
+    public boolean isPaused(Object owner) {
+        return pausedOwners.contains(owner);
+    }
+
+    /**
+     * Amount of scheduled tasks, paused ones included.
+     *
+     * @return the amount
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Amount of scheduled tasks of an owner, paused ones included.
+     *
+     * @param owner the owner
+     * @return the amount
+     */
+    public int getPendingCount(Object owner) {
+        int count = 0;
+        for (Task task = scheduled; task != null; task = task.next) {
+            if (task.owner == owner) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Amount of free task nodes.
+     *
+     * @return the amount
+     */
+    public int getPooledCount() {
+        return pooledCount;
+    }
+
+    /**
+     * Take a node from the pool, allocating one only when it is empty.
+     *
+     * @return the node
+     */
+    private Task obtain() {
+        Task task = pool;
+        if (task == null) {
+            return new Task();
+        }
+        pool = task.next;
+        task.next = null;
+        pooledCount--;
+        return task;
+    }
+
+    /**
+     * Return a node to the pool.
+     *
+     * @param task the node
+     */
+    private void recycle(Task task) {
+        task.owner = null;
+        task.runnable = null;
+        task.paused = false;
+        task.previous = null;
+        task.next = pool;
+        pool = task;
+        pooledCount++;
+    }
+
+    /**
+     * Remove a node from the scheduled tasks.
+     *
+     * @param task the node
+     */
+    private void unlink(Task task) {
+        if (task.previous != null) {
+            task.previous.next = task.next;
+        } else {
+            scheduled = task.next;
+        }
+        if (task.next != null) {
+            task.next.previous = task.previous;
+        }
+        pendingCount--;
+    }
+
+    /**
+     * A pooled task node, posted to the handler in place of the task itself.
+     */
+    private final class Task implements Runnable {
+
+        /**
+         * Owner of the task.
+         */
+        Object owner;
+        /**
+         * The task.
+         */
+        Runnable runnable;
+        /**
+         * Time the task runs at.
+         */
+        long deadline;
+        /**
+         * Time left when paused.
+         */
+        long remaining;
+        /**
+         * If the task is paused.
+         */
+        boolean paused;
+        /**
+         * Previous node of the list it belongs to.
+         */
+        Task previous;
+        /**
+         * Next node of the list it belongs to.
+         */
+        Task next;
+
+        /**
+         * Implementation of the run, the node is recycled before the task runs,
+         * so a task that posts itself again reuses it.
+         */
+        @Override
+        public void run() {
+            Runnable task = runnable;
+            unlink(this);
+            recycle(this);
+            task.run();
+        }
+
+    }
+
+}
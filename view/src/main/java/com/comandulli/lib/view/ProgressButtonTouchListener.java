@@ -0,0 +1,131 @@
+package com.comandulli.lib.view;
+
+import android.annotation.SuppressLint;
+import android.view.Choreographer;
+import android.view.Choreographer.FrameCallback;
+import android.view.MotionEvent;
+import android.view.View;
+import android.view.View.OnTouchListener;
+import android.widget.ProgressBar;
+
+/**
+ * A progress button, the longer the user holds the button down
+ * the more the progress bar goes forward, at the end,
+ * we trigger the button.
+ * <p>
+ * The hold is measured from the touch event times by a {@link HoldGesture},
+ * the progress bar follows the frame time against the same deadline,
+ * so it is not affected by the animator duration scale.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.0
+ */
+public class ProgressButtonTouchListener implements OnTouchListener, FrameCallback {
+    /**
+     * Progress Bar to be driven.
+     */
+    private final ProgressBar progressBar;
+    /**
+     * State machine of the hold gesture.
+     */
+    private final HoldGesture holdGesture;
+
+    /**
+     * Instantiate a Progress Button.
+     *
+     * @param progressBar progress bar view
+     * @param milisec     duration
+     */
+    public ProgressButtonTouchListener(ProgressBar progressBar, int milisec) {
+        this.progressBar = progressBar;
+        this.holdGesture = new HoldGesture(milisec, new HoldGesture.OnHoldListener() {
+            @Override
+            public void onHoldStart() {
+                Choreographer.getInstance().postFrameCallback(ProgressButtonTouchListener.this);
+                onStartProgress();
+            }
+
+            @Override
+            public void onHoldComplete(long latencyMillis) {
+                release();
+                onEndProgress();
+            }
+
+            @Override
+            public void onHoldCancel() {
+                release();
+                onCancelProgress();
+            }
+        });
+    }
+
+    /**
+     * Implementation of the OnTouch, controlling the progress bar.
+     *
+     * @param v     {@link #onTouch(View, MotionEvent)}
+     * @param event {@link #onTouch(View, MotionEvent)}
+     * @return {@link #onTouch(View, MotionEvent)}
+     */
+    @SuppressLint("ClickableViewAccessibility")
+    @Override
+    public boolean onTouch(View v, MotionEvent event) {
+        holdGesture.onTouchEvent(event);
+        return false;
+    }
+
+    /**
+     * Implementation of the frame callback, drives the progress bar while holding.
+     *
+     * @param frameTimeNanos {@link #doFrame(long)}
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!holdGesture.isHolding()) {
+            return;
+        }
+        progressBar.setProgress(holdGesture.getProgress(frameTimeNanos / 1000000L, progressBar.getMax()));
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Time between the planned end of the last hold and its {@link #onEndProgress()} call.
+     *
+     * @return the latency in milliseconds
+     */
+    public long getLastHoldLatency() {
+        return holdGesture.getLastLatency();
+    }
+
+    /**
+     * Stop driving the progress bar and reset it.
+     */
+    private void release() {
+        Choreographer.getInstance().removeFrameCallback(this);
+        progressBar.setProgress(0);
+    }
+
+    /**
+     * {@link #onStartProgress()}
+     */
+    @SuppressWarnings("EmptyMethod")
+    public void onStartProgress() {
+        // stub
+    }
+
+    /**
+     * {@link #onEndProgress()}
+     */
+    @SuppressWarnings("EmptyMethod")
+    public void onEndProgress() {
+        // stub
+    }
+
+    /**
+     * {@link #onCancelProgress()}
+     */
+    @SuppressWarnings("EmptyMethod")
+    public void onCancelProgress() {
+        // stub
+    }
+
+}
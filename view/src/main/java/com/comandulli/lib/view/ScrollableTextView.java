@@ -0,0 +1,389 @@
+package com.comandulli.lib.view;
+
+import android.content.Context;
+import android.text.Layout;
+import android.text.TextUtils.TruncateAt;
+import android.util.AttributeSet;
+import android.widget.TextView;
+
+import com.comandulli.lib.view.core.Scheduler;
+import com.comandulli.lib.view.core.ScrollEngine;
+
+/**
+ * ScrollableTextView is your standard TextView with a scroll functionality!
+ * <p>
+ * When the total height of the text is greater than your desired height,
+ * it scrolls automatically the text, allowing your user to read it entirely.
+ * <p>
+ * A single {@link ScrollEngine} drives every scroll mode, vertical, horizontal and ping-pong.
+ * TextView's own marquee is only enabled in {@link #SCROLL_MARQUEE} mode,
+ * so each view has a single source of per frame invalidation.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.0
+ */
+public class ScrollableTextView extends TextView {
+    /**
+     * Default time it takes to start the scrolling.
+     */
+    public static final int TIME_TO_START = ScrollEngine.TIME_TO_START;
+    /**
+     * Default time it takes for the scrolling to reset.
+     */
+    public static final int TIME_TO_RESET = ScrollEngine.TIME_TO_RESET;
+    /**
+     * Default rate at which the scroll speed is applied.
+     */
+    public static final int TICK = ScrollEngine.TICK;
+    /**
+     * Default scrolling speed.
+     */
+    public static final int SCROLL_SPEED = ScrollEngine.SCROLL_SPEED;
+    /**
+     * Scrolls the text vertically, jumping back to the top at the end.
+     */
+    public static final int SCROLL_VERTICAL = 0;
+    /**
+     * Scrolls a single line horizontally, jumping back to the start at the end.
+     */
+    public static final int SCROLL_HORIZONTAL = 1;
+    /**
+     * Scrolls the text vertically, back and forth.
+     */
+    public static final int SCROLL_PING_PONG = 2;
+    /**
+     * Uses TextView's own marquee, the engine stays off.
+     */
+    public static final int SCROLL_MARQUEE = 3;
+    /**
+     * Does not scroll.
+     */
+    public static final int SCROLL_NONE = 4;
+    /**
+     * Current scroll mode.
+     */
+    private int scrollMode = SCROLL_VERTICAL;
+    /**
+     * If this view selected itself to run the marquee.
+     */
+    private boolean selectedForMarquee;
+    /**
+     * Optional frame timing instrumentation, reported once per second.
+     */
+    private FrameMonitor frameMonitor;
+    /**
+     * Scrolls the text along the axis of the current mode.
+     */
+    private final ScrollEngine engine = new ScrollEngine(MainScheduler.getInstance(), new ScrollEngine.Target() {
+        @Override
+        public int getOverflow() {
+            return overflow();
+        }
+
+        @Override
+        public void scrollTo(int offset) {
+            if (scrollMode == SCROLL_HORIZONTAL) {
+                ScrollableTextView.this.scrollTo(offset, 0);
+            } else {
+                ScrollableTextView.this.scrollTo(0, offset);
+            }
+        }
+    }) {
+        @Override
+        protected void scroll() {
+            boolean traced = ViewMetrics.beginSection("ScrollableTextView.scroll");
+            super.scroll();
+            ViewMetrics.endSection(traced);
+        }
+    };
+
+    /**
+     * {@see android.widget.TextView}
+     *
+     * @param context {@see android.widget.TextView}
+     */
+    public ScrollableTextView(Context context) {
+        super(context);
+        establish();
+
+    }
+
+    /**
+     * {@see android.widget.TextView}
+     *
+     * @param context {@see android.widget.TextView}
+     * @param attrs   {@see android.widget.TextView}
+     */
+    public ScrollableTextView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        establish();
+    }
+
+    /**
+     * {@see android.widget.TextView}
+     *
+     * @param context      {@see android.widget.TextView}
+     * @param attrs        {@see android.widget.TextView}
+     * @param defStyleAttr {@see android.widget.TextView}
+     */
+    public ScrollableTextView(Context context, AttributeSet attrs, int defStyleAttr) {
+        super(context, attrs, defStyleAttr);
+        establish();
+    }
+
+    /**
+     * Established the behaviour of the scrolling text view.
+     */
+    private void establish() {
+        if (getEllipsize() == TruncateAt.MARQUEE) {
+            scrollMode = SCROLL_MARQUEE;
+            selectForMarquee();
+        }
+    }
+
+    /**
+     * Select this view so TextView's own marquee runs, once it is unselected the marquee stops.
+     */
+    private void selectForMarquee() {
+        if (!isSelected()) {
+            setSelected(true);
+            selectedForMarquee = true;
+        }
+    }
+
+    /**
+     * Start scrolling from the beginning, the scroll only runs while attached to a window.
+     */
+    private void restart() {
+        engine.stop();
+        scrollTo(0, 0);
+        if (scrollMode == SCROLL_MARQUEE || scrollMode == SCROLL_NONE) {
+            return;
+        }
+        engine.setPingPong(scrollMode == SCROLL_PING_PONG);
+        engine.start();
+    }
+
+    /**
+     * Get the scroll mode.
+     *
+     * @return the mode
+     */
+    public int getScrollMode() {
+        return scrollMode;
+    }
+
+    /**
+     * Set the scroll mode, the scroll restarts.
+     *
+     * @param scrollMode {@link #SCROLL_VERTICAL}, {@link #SCROLL_HORIZONTAL}, {@link #SCROLL_PING_PONG},
+     *                   {@link #SCROLL_MARQUEE} or {@link #SCROLL_NONE}
+     */
+    public void setScrollMode(int scrollMode) {
+        this.scrollMode = scrollMode;
+        setHorizontallyScrolling(scrollMode == SCROLL_HORIZONTAL);
+        if (scrollMode == SCROLL_MARQUEE) {
+            setEllipsize(TruncateAt.MARQUEE);
+            selectForMarquee();
+        } else {
+            // only undo the selection this view made, the app may own it otherwise
+            if (selectedForMarquee) {
+                selectedForMarquee = false;
+                setSelected(false);
+            }
+            if (getEllipsize() == TruncateAt.MARQUEE) {
+                setEllipsize(null);
+            }
+        }
+        if (getWindowToken() != null) {
+            restart();
+        } else {
+            engine.stop();
+        }
+    }
+
+    /**
+     * Amount of pixels the text exceeds the view along the scroll axis.
+     *
+     * @return the overflow, zero or less when all of it is visible
+     */
+    private int overflow() {
+        if (scrollMode == SCROLL_HORIZONTAL) {
+            Layout layout = getLayout();
+            if (layout == null) {
+                return 0;
+            }
+            float width = 0;
+            for (int i = 0; i < layout.getLineCount(); i++) {
+                width = Math.max(width, layout.getLineWidth(i));
+            }
+            return (int) Math.ceil(width) - (getWidth() - getTotalPaddingLeft() - getTotalPaddingRight());
+        }
+        return getLineCount() * getLineHeight() - getMeasuredHeight();
+    }
+
+    /**
+     * Difference between the measured and the planned time of the last scrolling step.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getScheduleDrift() {
+        return engine.getScheduleDrift();
+    }
+
+    /**
+     * Largest difference between the measured and the planned time of a scrolling step.
+     *
+     * @return the drift in milliseconds, positive when late
+     */
+    public long getMaxScheduleDrift() {
+        return engine.getMaxScheduleDrift();
+    }
+
+    /**
+     * {@see android.view.View}
+     */
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        restart();
+        if (frameMonitor != null) {
+            frameMonitor.start();
+        }
+    }
+
+    /**
+     * {@see android.view.View}
+     */
+    @Override
+    protected void onDetachedFromWindow() {
+        engine.stop();
+        if (frameMonitor != null) {
+            frameMonitor.stop();
+        }
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Enable frame timing instrumentation, the counters are reported once per second.
+     *
+     * @param listener receives the counters, null disables the instrumentation
+     */
+    public void setFrameStatsListener(FrameMonitor.OnFrameStatsListener listener) {
+        if (frameMonitor != null) {
+            frameMonitor.stop();
+        }
+        if (listener == null) {
+            frameMonitor = null;
+            return;
+        }
+        frameMonitor = new FrameMonitor(getContext(), listener);
+        frameMonitor.setReportInterval(1000);
+        if (getWindowToken() != null) {
+            frameMonitor.start();
+        }
+    }
+
+    /**
+     * Set the scheduler where the scrolling steps are posted, the scroll restarts.
+     *
+     * @param scheduler the scheduler
+     */
+    public void setScheduler(Scheduler scheduler) {
+        engine.setScheduler(scheduler);
+        if (getWindowToken() != null) {
+            restart();
+        }
+    }
+
+    /**
+     * Get the scrolling speed.
+     *
+     * @return the speed
+     */
+    public int getScrollSpeed() {
+        return engine.getScrollSpeed();
+    }
+
+    /**
+     * Set the scrolling speed.
+     *
+     * @param scrollSpeed the speed
+     */
+    public void setScrollSpeed(int scrollSpeed) {
+        engine.setScrollSpeed(scrollSpeed);
+    }
+
+    /**
+     * Get the scrolling speed in pixels per second.
+     *
+     * @return the speed
+     */
+    public float getScrollSpeedPixelsPerSecond() {
+        return engine.getScrollSpeedPixelsPerSecond();
+    }
+
+    /**
+     * Set the scrolling speed in pixels per second, independent of the tick rate.
+     *
+     * @param pixelsPerSecond the speed, zero to go back to {@link #setScrollSpeed(int)} per tick
+     */
+    public void setScrollSpeedPixelsPerSecond(float pixelsPerSecond) {
+        engine.setScrollSpeedPixelsPerSecond(pixelsPerSecond);
+    }
+
+    /**
+     * Get the rate at which the scroll speed is applied.
+     *
+     * @return tick rate
+     */
+    public int getTick() {
+        return engine.getTick();
+    }
+
+    /**
+     * Set the rate at which the scroll speed is applied.
+     *
+     * @param tick tick rate
+     */
+    public void setTick(int tick) {
+        engine.setTick(tick);
+    }
+
+    /**
+     * Set the time it takes for the scrolling to reset.
+     *
+     * @param timeToReset the time
+     */
+    public void setTimeToReset(int timeToReset) {
+        engine.setTimeToReset(timeToReset);
+    }
+
+    /**
+     * Get the time it takes for the scrolling to reset.
+     *
+     * @return the time
+     */
+    public int getTimeToReset() {
+        return engine.getTimeToReset();
+    }
+
+    /**
+     * Set the time it takes to start the scrolling.
+     *
+     * @param timeToStart the time
+     */
+    public void setTimeToStart(int timeToStart) {
+        engine.setTimeToStart(timeToStart);
+    }
+
+    /**
+     * Get the time it takes to start the scrolling.
+     *
+     * @return the time
+     */
+    public int getTimeToStart() {
+        return engine.getTimeToStart();
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.comandulli.lib.view;
+
+import android.content.Context;
+import android.graphics.PorterDuff.Mode;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.widget.EditText;
+
+import com.comandulli.lib.view.core.ValidationState;
+import com.comandulli.lib.view.core.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TextInput helps you with EditText validation and masking.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.0
+ */
+public class TextInput {
+    /**
+     * Validation state of this input.
+     */
+    private final ValidationState state = new ValidationState();
+    /**
+     * The EditText view of this input.
+     */
+    private final EditText editText;
+    /**
+     * The android context.
+     */
+    private final Context context;
+    /**
+     * Good Color, when the field is valid.
+     */
+    private final int goodColor;
+    /**
+     * Bad Color, when the filed is invalid.
+     */
+    private final int badColor;
+    /**
+     * Masks set to this input, in the order they were set.
+     */
+    private final List<TextMask> masks = new ArrayList<>();
+    /**
+     * If the text is being populated, the watchers are suspended meanwhile.
+     */
+    private boolean populating;
+
+    /**
+     * Instantiates a text input.
+     *
+     * @param editText  EditText view
+     * @param context   android context
+     * @param goodColor the good color
+     * @param badColor  the bad color
+     */
+    public TextInput(EditText editText, Context context, int goodColor, int badColor) {
+        this.editText = editText;
+        this.context = context;
+        this.goodColor = goodColor;
+        this.badColor = badColor;
+        editText.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+            }
+
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                if (!populating && isValid()) {
+                    reset();
+                }
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+            }
+        });
+    }
+
+    /**
+     * Set a mask for this input.
+     *
+     * @param mask the mask
+     */
+    public void setMask(TextMask mask) {
+        mask.setInput(this);
+        masks.add(mask);
+        editText.addTextChangedListener(mask);
+    }
+
+    /**
+     * Get this input's EditText view.
+     *
+     * @return
+     */
+    public EditText getEditText() {
+        return editText;
+    }
+
+    /**
+     * Declare this input as invalid.
+     *
+     * @param error the error to be displayed. {@see com.comandulli.lib.view.InputError}
+     */
+    public void invalidate(InputError error) {
+        state.invalidate(error.getStringResource());
+        editText.setError(context.getString(error.getStringResource()));
+        editText.setTextColor(context.getResources().getColor(badColor));
+        editText.getBackground().setColorFilter(context.getResources().getColor(badColor), Mode.SRC_ATOP);
+    }
+
+    /**
+     * Check if this input is valid.
+     *
+     * @return if it is valid
+     */
+    public boolean isValid() {
+        return state.hasError();
+    }
+
+    /**
+     * Check the text of this input against a validator, declaring it invalid if it fails.
+     *
+     * @param validator the validator
+     * @param error     the error to be displayed if it fails
+     * @return if it is valid
+     */
+    public boolean validate(Validator validator, InputError error) {
+        return validate(validator, getText(), error);
+    }
+
+    /**
+     * Check a value against a validator, declaring this input invalid if it fails.
+     * Timed and traced in the library metrics.
+     *
+     * @param validator the validator
+     * @param value     the value
+     * @param error     the error to be displayed if it fails
+     * @return if it is valid
+     */
+    private boolean validate(Validator validator, String value, InputError error) {
+        boolean traced = ViewMetrics.beginSection("TextInput.validate");
+        long start = ViewMetrics.start();
+        boolean valid = validator.validate(value);
+        if (!valid) {
+            invalidate(error);
+        }
+        ViewMetrics.stop(ViewMetrics.HISTOGRAM_VALIDATION_NANOS, start);
+        ViewMetrics.endSection(traced);
+        return valid;
+    }
+
+    /**
+     * Get the validation state of this input.
+     *
+     * @return the state
+     */
+    public ValidationState getState() {
+        return state;
+    }
+
+    /**
+     * Get the text of this input.
+     *
+     * @return the text
+     */
+    public String getText() {
+        return editText.getText().toString();
+    }
+
+    /**
+     * Set the text of this input.
+     *
+     * @param text the text
+     */
+    public void setText(String text) {
+        editText.setText(text);
+        editText.setSelection(text.length());
+    }
+
+    /**
+     * Populate this input, such as when restoring a draft.
+     * The watchers are suspended, the masks are applied once on the given text,
+     * and the text and state are set once.
+     *
+     * @param text the text
+     */
+    public void populate(String text) {
+        populate(text, null, null);
+    }
+
+    /**
+     * Populate this input and validate it, such as when restoring a draft.
+     * The watchers are suspended, the masks are applied once on the given text,
+     * the validator runs once on the masked text, and the text and state are set once.
+     *
+     * @param text      the text
+     * @param validator the validator, null to not validate
+     * @param error     the error to be displayed if it fails
+     * @return if it is valid
+     */
+    public boolean populate(String text, Validator validator, InputError error) {
+        String value = text;
+        for (TextMask mask : masks) {
+            value = mask.mask(value);
+        }
+        populating = true;
+        try {
+            editText.setText(value);
+            editText.setSelection(value.length());
+        } finally {
+            populating = false;
+        }
+        for (TextMask mask : masks) {
+            mask.setWatched(value);
+        }
+        if (validator == null || validate(validator, value, error)) {
+            reset();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * If the text is being populated, watchers must not react meanwhile.
+     *
+     * @return if it is populating
+     */
+    boolean isPopulating() {
+        return populating;
+    }
+
+    /**
+     * Reset the state of this input to its original state.
+     */
+    public void reset() {
+        state.reset();
+        editText.setError(null);
+        editText.setTextColor(context.getResources().getColor(goodColor));
+        editText.getBackground().setColorFilter(null);
+    }
+
+}
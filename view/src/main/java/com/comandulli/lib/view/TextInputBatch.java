@@ -0,0 +1,102 @@
+package com.comandulli.lib.view;
+
+import com.comandulli.lib.view.core.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Populates many {@link TextInput}s at once, such as when restoring a draft or applying autofill.
+ * <p>
+ * Each input is populated with its watchers suspended, its masks and validator
+ * run once on the given text, and its text and state are set once.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public class TextInputBatch {
+
+    /**
+     * Inputs to be populated, in order.
+     */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Add an input to be populated.
+     *
+     * @param input the input
+     * @param text  its text
+     * @return this object for inline invokes
+     */
+    public TextInputBatch put(TextInput input, String text) {
+        return put(input, text, null, null);
+    }
+
+    /**
+     * Add an input to be populated and validated.
+     *
+     * @param input     the input
+     * @param text      its text
+     * @param validator the validator
+     * @param error     the error to be displayed if it fails
+     * @return this object for inline invokes
+     */
+    public TextInputBatch put(TextInput input, String text, Validator validator, InputError error) {
+        entries.add(new Entry(input, text, validator, error));
+        return this;
+    }
+
+    /**
+     * Populate every input added, then clear this batch.
+     *
+     * @return if every input is valid
+     */
+    public boolean apply() {
+        boolean valid = true;
+        for (Entry entry : entries) {
+            valid &= entry.input.populate(entry.text, entry.validator, entry.error);
+        }
+        entries.clear();
+        return valid;
+    }
+
+    /**
+     * An input to be populated.
+     */
+    private static class Entry {
+
+        /**
+         * The input.
+         */
+        final TextInput input;
+        /**
+         * Its text.
+         */
+        final String text;
+        /**
+         * Its validator, if any.
+         */
+        final Validator validator;
+        /**
+         * Its error, if any.
+         */
+        final InputError error;
+
+        /**
+         * Instantiate an entry.
+         *
+         * @param input     the input
+         * @param text      its text
+         * @param validator its validator
+         * @param error     its error
+         */
+        Entry(TextInput input, String text, Validator validator, InputError error) {
+            this.input = input;
+            this.text = text;
+            this.validator = validator;
+            this.error = error;
+        }
+
+    }
+
+}
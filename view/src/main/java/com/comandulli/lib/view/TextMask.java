@@ -3,17 +3,20 @@ package com.comandulli.lib.view;
 import android.text.Editable;
 import android.text.TextWatcher;
 
+import com.comandulli.lib.view.core.Mask;
+import com.comandulli.lib.view.core.MaskState;
+
 /**
  * Mask to be applied to a specific TextInput {@see com.comandulli.lib.view.TextInput}
  *
  * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
  * @since 1.0
  */
-public abstract class TextMask implements TextWatcher {
+public abstract class TextMask implements TextWatcher, Mask {
     /**
      * Last watched value.
      */
-    private String watched = "";
+    private final MaskState state = new MaskState(this);
     /**
      * Input assigned.
      */
@@ -63,19 +66,31 @@ public abstract class TextMask implements TextWatcher {
      */
     @Override
     public void onTextChanged(CharSequence s, int start, int before, int count) {
-        String value = s.toString();
-        // avoid loop
-        if (value.equals(watched)) {
+        // avoid loop, compared in place so the dispatch caused by our own setText does not allocate
+        if (input.isPopulating() || state.isWatched(s)) {
             return;
         }
         // mask value
-        value = mask(value);
+        boolean traced = ViewMetrics.beginSection("TextMask.mask");
+        long maskStart = ViewMetrics.start();
+        String value = state.mask(s);
+        ViewMetrics.stop(ViewMetrics.HISTOGRAM_MASK_NANOS, maskStart);
+        ViewMetrics.endSection(traced);
         // deliver value
-        watched = value;
+        ViewMetrics.count(ViewMetrics.COUNTER_MASK_REDISPATCHES);
         input.getEditText().setText(value);
         input.getEditText().setSelection(value.length());
     }
 
+    /**
+     * Set the last watched value, when the input has been populated with an already masked value.
+     *
+     * @param watched the value
+     */
+    void setWatched(String watched) {
+        state.setWatched(watched);
+    }
+
     /**
      * {@link #beforeTextChanged(CharSequence, int, int, int)}
      *
@@ -106,6 +121,7 @@ public abstract class TextMask implements TextWatcher {
      * @param value in input
      * @return the masked value.
      */
+    @Override
     public abstract String mask(String value);
 
 }
@@ -0,0 +1,185 @@
+package com.comandulli.lib.view;
+
+import android.os.Trace;
+
+import com.comandulli.lib.view.core.Metrics;
+import com.comandulli.lib.view.core.MetricsRegistry;
+
+/**
+ * Metrics and tracing of the library, disabled by default.
+ * <p>
+ * When disabled the library only checks a flag, no clock is read and nothing is recorded.
+ * Any {@link Metrics} implementation can be plugged in, {@link #enable()} plugs a {@link MetricsRegistry}.
+ *
+ * @author <a href="mailto:caioa.comandulli@gmail.com">Caio Comandulli</a>
+ * @since 1.1
+ */
+public final class ViewMetrics {
+
+    /**
+     * Counter of the setText calls made by {@link TextMask}s, each one dispatches the watchers again.
+     */
+    public static final int COUNTER_MASK_REDISPATCHES = 0;
+    /**
+     * Counter of the clicks suppressed by {@link ClickLockGroup}s.
+     */
+    public static final int COUNTER_SUPPRESSED_CLICKS = 1;
+    /**
+     * Amount of counters.
+     */
+    public static final int COUNTER_COUNT = 2;
+    /**
+     * Histogram of the time spent in {@link TextMask#mask(String)}, in nanoseconds.
+     */
+    public static final int HISTOGRAM_MASK_NANOS = 0;
+    /**
+     * Histogram of the time spent validating a {@link TextInput}, in nanoseconds.
+     */
+    public static final int HISTOGRAM_VALIDATION_NANOS = 1;
+    /**
+     * Histogram of the time between the end of a hold and its callback, in milliseconds.
+     */
+    public static final int HISTOGRAM_HOLD_LATENCY_MILLIS = 2;
+    /**
+     * Histogram of the difference between the measured and planned time of the {@link FadeAnim} steps, in milliseconds.
+     */
+    public static final int HISTOGRAM_FADE_DRIFT_MILLIS = 3;
+    /**
+     * Amount of histograms.
+     */
+    public static final int HISTOGRAM_COUNT = 4;
+    /**
+     * Where the metrics are reported.
+     */
+    private static volatile Metrics metrics = Metrics.NOOP;
+    /**
+     * If metrics are being reported.
+     */
+    private static volatile boolean enabled;
+    /**
+     * If trace sections are being emitted.
+     */
+    private static volatile boolean tracing;
+
+    /**
+     * Static access only.
+     */
+    private ViewMetrics() {
+    }
+
+    /**
+     * Report the metrics to a new registry.
+     *
+     * @return the registry
+     */
+    public static MetricsRegistry enable() {
+        MetricsRegistry registry = new MetricsRegistry(COUNTER_COUNT, HISTOGRAM_COUNT);
+        setMetrics(registry);
+        return registry;
+    }
+
+    /**
+     * Stop reporting metrics.
+     */
+    public static void disable() {
+        setMetrics(null);
+    }
+
+    /**
+     * Set where the metrics are reported.
+     *
+     * @param metrics the metrics, null to disable
+     */
+    public static void setMetrics(Metrics metrics) {
+        ViewMetrics.metrics = metrics == null ? Metrics.NOOP : metrics;
+        ViewMetrics.enabled = metrics != null;
+    }
+
+    /**
+     * Get where the metrics are reported.
+     *
+     * @return the metrics
+     */
+    public static Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Emit {@link Trace} sections around the hot paths of the library.
+     *
+     * @param tracing if sections are emitted
+     */
+    public static void setTracing(boolean tracing) {
+        ViewMetrics.tracing = tracing;
+    }
+
+    /**
+     * Add one to a counter.
+     *
+     * @param counter id of the counter
+     */
+    static void count(int counter) {
+        if (enabled) {
+            metrics.count(counter, 1);
+        }
+    }
+
+    /**
+     * Record a value in a histogram.
+     *
+     * @param histogram id of the histogram
+     * @param value     the value
+     */
+    static void record(int histogram, long value) {
+        if (enabled) {
+            metrics.record(histogram, value);
+        }
+    }
+
+    /**
+     * Start timing a section, only reads the clock when enabled.
+     *
+     * @return the start time
+     */
+    static long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record the time elapsed since {@link #start()} in a histogram.
+     *
+     * @param histogram id of the histogram
+     * @param start     value returned by {@link #start()}
+     */
+    static void stop(int histogram, long start) {
+        if (enabled && start != 0) {
+            metrics.record(histogram, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Begin a trace section, when tracing.
+     *
+     * @param name name of the section
+     * @return if the section has begun, to be given to {@link #endSection(boolean)}
+     */
+    static boolean beginSection(String name) {
+        if (tracing) {
+            Trace.beginSection(name);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * End a trace section, if it has begun.
+     *
+     * @param begun value returned by {@link #beginSection(String)}
+     */
+    static void endSection(boolean begun) {
+        if (begun) {
+            Trace.endSection();
+        }
+    }
+
+}